@@ -0,0 +1,162 @@
+package numerology.dailymistika.ru.calc;
+
+import java.util.Calendar;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Moves the cold-start cost of the calculator off the first reading screen. Started once at app start
+ * ({@code Application.onCreate}, or {@code ChartServer.main} on the JVM) on a background executor, it only
+ * loads the data every reading needs whatever the profile: the letter tables (class initialization of
+ * {@link LetterTables}), the Unicode data of {@link NameNormalizer} and the time zone data behind
+ * {@link Calendar#getInstance()}. That is a large part of the cold cost of the first reading and is done before the
+ * first screen asks.
+ *
+ * Everything else waits until a screen got its first reading: then the hot chart, forecast and compatibility
+ * paths run on sample profiles so the runtime profiles and compiles them for the screens after it, and the
+ * compatibility ranking builds its table. Exercising them earlier competed with the first screen for the CPU
+ * and made it slower. The rounds run at the lowest priority and stop once they no longer get faster.
+ * It reports how long each part took and the time from start to the first reading a screen got.
+ */
+public final class CalculatorWarmup {
+
+    private static final int MAX_ROUNDS = 20;
+    // rounds in a row without getting at least 10% faster than the best one before
+    private static final int STABLE_ROUNDS = 3;
+
+    private static final AtomicBoolean started = new AtomicBoolean();
+    private static final AtomicBoolean firstReadingReported = new AtomicBoolean();
+    // the exercise rounds need both the tables and the first reading
+    private static final AtomicInteger exercisePending = new AtomicInteger(2);
+    private static volatile Executor executor;
+    private static volatile long startNanos;
+    private static volatile boolean tablesReady;
+    private static volatile boolean warm;
+    private static volatile Listener listener;
+
+    public interface Listener {
+
+        void onTablesReady(long nanos);
+
+        /**
+         * @param nanos  time the exercise rounds took, they start after the first reading
+         * @param rounds rounds of sample evaluations it took
+         */
+        void onWarmedUp(long nanos, int rounds);
+
+        /**
+         * @param nanos       time from {@link #start} to the first reading
+         * @param tablesReady whether the letter tables had been built by then
+         */
+        void onFirstReading(long nanos, boolean tablesReady);
+    }
+
+    private CalculatorWarmup() {
+    }
+
+    /**
+     * Starts the warmup on {@code executor}; later calls do nothing. Never pass the main thread executor.
+     */
+    public static void start(Executor executor, Listener listener) {
+        if (!started.compareAndSet(false, true)) {
+            return;
+        }
+        CalculatorWarmup.listener = listener;
+        CalculatorWarmup.executor = executor;
+        startNanos = System.nanoTime();
+        executor.execute(CalculatorWarmup::buildTables);
+    }
+
+    /**
+     * Whether the exercise rounds after the first reading are done.
+     */
+    public static boolean isWarm() {
+        return warm;
+    }
+
+    /**
+     * Called with every reading a screen gets, from the {@code Context} entry points of {@code NumbersCalculator},
+     * from {@link ChartEvaluator#current()} and by the chart server; only the first call after {@link #start}
+     * is reported, and it lets the exercise rounds begin.
+     */
+    public static void reportFirstReading() {
+        if (!started.get() || firstReadingReported.get() || !firstReadingReported.compareAndSet(false, true)) {
+            return;
+        }
+        Listener l = listener;
+        if (l != null) {
+            l.onFirstReading(System.nanoTime() - startNanos, tablesReady);
+        }
+        if (exercisePending.decrementAndGet() == 0) {
+            executor.execute(CalculatorWarmup::exercise);
+        }
+    }
+
+    private static void buildTables() {
+        long begin = System.nanoTime();
+        LetterTables.lookup(LetterTables.LETTERS, 'a');
+        NameNormalizer.normalize("Jürgen", null);
+        Calendar.getInstance();
+        tablesReady = true;
+        Listener l = listener;
+        if (l != null) {
+            l.onTablesReady(System.nanoTime() - begin);
+        }
+        if (exercisePending.decrementAndGet() == 0) {
+            exercise();
+        }
+    }
+
+    private static void exercise() {
+        Thread thread = Thread.currentThread();
+        int priority = thread.getPriority();
+        thread.setPriority(Thread.MIN_PRIORITY);
+        try {
+            long begin = System.nanoTime();
+            int rounds = exerciseRounds();
+            warm = true;
+            Listener l = listener;
+            if (l != null) {
+                l.onWarmedUp(System.nanoTime() - begin, rounds);
+            }
+        } finally {
+            thread.setPriority(priority);
+        }
+    }
+
+    private static int exerciseRounds() {
+        Calendar today = Calendar.getInstance();
+        CoupleCompatibility partners = new CoupleCompatibility();
+        partners.addPartner(new int[]{24, 9, 1990});
+        partners.addPartner(new int[]{15, 4, 1985});
+        partners.addPartner(new int[]{3, 1, 1979});
+        long best = Long.MAX_VALUE;
+        int stable = 0;
+        int round = 0;
+        while (round < MAX_ROUNDS && stable < STABLE_ROUNDS) {
+            long begin = System.nanoTime();
+            // fresh snapshots so the name normalization runs every round as well
+            ProfileSnapshot[] samples = {
+                    ProfileSnapshot.of("ru", "Иван", "Иванович", "Иванов", "24/9/1990", "", ""),
+                    ProfileSnapshot.of("en", "John", "", "Doe", "15/4/1985", "", ""),
+                    ProfileSnapshot.of("de", "Jürgen", "", "Müller", "3/1/1979", "", "")};
+            for (ProfileSnapshot sample : samples) {
+                ChartEvaluator.evaluate(sample);
+                for (ForecastDay day : ForecastTimeline.of(sample, today, 31)) {
+                    day.getLuckyNumber();
+                }
+            }
+            partners.rank(new int[]{24, 9, 1990});
+            long took = System.nanoTime() - begin;
+            round++;
+            if (took < best - best / 10) {
+                stable = 0;
+            } else {
+                stable++;
+            }
+            best = Math.min(best, took);
+        }
+        return round;
+    }
+}
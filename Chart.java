@@ -0,0 +1,242 @@
+package numerology.dailymistika.ru.calc;
+
+/**
+ * All numbers of one profile computed from a single {@link ProfileSnapshot}. Every field is final,
+ * so a chart handed to another thread is seen fully built without extra synchronization.
+ */
+public final class Chart {
+
+    private final long version;
+    private final int lifeNumber;
+    private final int expressionNumber;
+    private final int personalityNumber;
+    private final int destinyNumber;
+    private final int potencialNumber;
+    private final int nameNumber;
+    private final int realizationNumber;
+    private final int intelligenceNumber;
+    private final int balanceNumber;
+    private final int soulNumber;
+    private final int soulNumberLetters;
+    private final int characterNumber;
+    private final int moneyNumber;
+    private final int birthdayCode;
+    private final int luckyGem;
+    private final int birthdayNumber;
+    private final int maturityNumber;
+    private final int marriageNumber;
+    private final int desireNumber;
+    private final int achievmentPeriod;
+    private final int[] challengeNumbers;
+    private final int[] achievmentNumbers;
+    private final int[] karmaNumbers;
+    private final int[] pythagorosSquare;
+    private final int personalYear;
+    private final int personalMonth;
+    private final int personalDay;
+    private final int luckyDailyNumber;
+
+    private Chart(Builder b) {
+        version = b.version;
+        lifeNumber = b.lifeNumber;
+        expressionNumber = b.expressionNumber;
+        personalityNumber = b.personalityNumber;
+        destinyNumber = b.destinyNumber;
+        potencialNumber = b.potencialNumber;
+        nameNumber = b.nameNumber;
+        realizationNumber = b.realizationNumber;
+        intelligenceNumber = b.intelligenceNumber;
+        balanceNumber = b.balanceNumber;
+        soulNumber = b.soulNumber;
+        soulNumberLetters = b.soulNumberLetters;
+        characterNumber = b.characterNumber;
+        moneyNumber = b.moneyNumber;
+        birthdayCode = b.birthdayCode;
+        luckyGem = b.luckyGem;
+        birthdayNumber = b.birthdayNumber;
+        maturityNumber = b.maturityNumber;
+        marriageNumber = b.marriageNumber;
+        desireNumber = b.desireNumber;
+        achievmentPeriod = b.achievmentPeriod;
+        challengeNumbers = b.challengeNumbers.clone();
+        achievmentNumbers = b.achievmentNumbers.clone();
+        karmaNumbers = b.karmaNumbers.clone();
+        pythagorosSquare = b.pythagorosSquare.clone();
+        personalYear = b.personalYear;
+        personalMonth = b.personalMonth;
+        personalDay = b.personalDay;
+        luckyDailyNumber = b.luckyDailyNumber;
+    }
+
+    /**
+     * Version of the {@link ProfileSnapshot} the chart was computed from.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    public int getLifeNumber() {
+        return lifeNumber;
+    }
+
+    public int getExpressionNumber() {
+        return expressionNumber;
+    }
+
+    public int getPersonalityNumber() {
+        return personalityNumber;
+    }
+
+    public int getDestinyNumber() {
+        return destinyNumber;
+    }
+
+    public int getPotencialNumber() {
+        return potencialNumber;
+    }
+
+    public int getNameNumber() {
+        return nameNumber;
+    }
+
+    public int getRealizationNumber() {
+        return realizationNumber;
+    }
+
+    public int getIntelligenceNumber() {
+        return intelligenceNumber;
+    }
+
+    public int getBalanceNumber() {
+        return balanceNumber;
+    }
+
+    public int getSoulNumber() {
+        return soulNumber;
+    }
+
+    public int getSoulNumberLetters() {
+        return soulNumberLetters;
+    }
+
+    public int getCharacterNumber() {
+        return characterNumber;
+    }
+
+    public int getMoneyNumber() {
+        return moneyNumber;
+    }
+
+    public int getBirthdayCode() {
+        return birthdayCode;
+    }
+
+    public int getLuckyGem() {
+        return luckyGem;
+    }
+
+    public int getBirthdayNumber() {
+        return birthdayNumber;
+    }
+
+    public int getMaturityNumber() {
+        return maturityNumber;
+    }
+
+    public int getMarriageNumber() {
+        return marriageNumber;
+    }
+
+    public int getDesireNumber() {
+        return desireNumber;
+    }
+
+    public int getAchievmentPeriod() {
+        return achievmentPeriod;
+    }
+
+    /**
+     * Challenge numbers 1 to 4.
+     */
+    public int[] getChallengeNumbers() {
+        return challengeNumbers.clone();
+    }
+
+    /**
+     * Achievment numbers 1 to 4.
+     */
+    public int[] getAchievmentNumbers() {
+        return achievmentNumbers.clone();
+    }
+
+    public int[] getKarmaNumbers() {
+        return karmaNumbers.clone();
+    }
+
+    /**
+     * Karmic lessons: the digits 1-9 missing from the karma numbers.
+     */
+    public int[] getKarmaLessons() {
+        return LetterHistogram.karmaLessons(karmaNumbers, 0);
+    }
+
+    public int[] getPythagorosSquare() {
+        return pythagorosSquare.clone();
+    }
+
+    public int getPersonalYear() {
+        return personalYear;
+    }
+
+    public int getPersonalMonth() {
+        return personalMonth;
+    }
+
+    public int getPersonalDay() {
+        return personalDay;
+    }
+
+    public int getLuckyDailyNumber() {
+        return luckyDailyNumber;
+    }
+
+    /**
+     * Collects the numbers while a chart is evaluated. Each number family fills its own fields,
+     * so families may fill one builder from different threads as long as {@link #build()} runs after all of them.
+     */
+    static final class Builder {
+        long version;
+        int lifeNumber;
+        int expressionNumber;
+        int personalityNumber;
+        int destinyNumber;
+        int potencialNumber;
+        int nameNumber;
+        int realizationNumber;
+        int intelligenceNumber;
+        int balanceNumber;
+        int soulNumber;
+        int soulNumberLetters;
+        int characterNumber;
+        int moneyNumber;
+        int birthdayCode;
+        int luckyGem;
+        int birthdayNumber;
+        int maturityNumber;
+        int marriageNumber;
+        int desireNumber;
+        int achievmentPeriod;
+        int[] challengeNumbers = new int[4];
+        int[] achievmentNumbers = new int[4];
+        int[] karmaNumbers = new int[10];
+        int[] pythagorosSquare = new int[9];
+        int personalYear;
+        int personalMonth;
+        int personalDay;
+        int luckyDailyNumber;
+
+        Chart build() {
+            return new Chart(this);
+        }
+    }
+}
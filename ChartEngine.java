@@ -0,0 +1,13 @@
+package numerology.dailymistika.ru.calc;
+
+import java.util.Calendar;
+
+/**
+ * Anything that computes a {@link Chart} from a profile: {@link ChartEvaluator#evaluate} as the reference,
+ * or a faster alternative checked against it by the {@link DifferentialHarness}. The forecast numbers
+ * are those of the day {@code today}, so recorded readings stay comparable on later days.
+ */
+public interface ChartEngine {
+
+    Chart evaluate(ProfileSnapshot profile, Calendar today);
+}
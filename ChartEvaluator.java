@@ -0,0 +1,164 @@
+package numerology.dailymistika.ru.calc;
+
+import java.util.Calendar;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Computes {@link Chart}s from the snapshots of a {@link ProfileStore} and keeps the latest one.
+ * The independent number families (name letters, date of birth, forecast) can be fanned out over an
+ * {@link Executor}; all of them read the same snapshot, so the chart is always consistent. The combined
+ * numbers are sums of the name and date numbers and are derived from them once both families are done.
+ */
+public final class ChartEvaluator {
+
+    private final ProfileStore store;
+    private final Executor executor;
+    private final AtomicReference<Chart> latest = new AtomicReference<>();
+
+    public ChartEvaluator(ProfileStore store, Executor executor) {
+        this.store = store;
+        this.executor = executor;
+    }
+
+    /**
+     * Returns the chart of the current snapshot, computing it when the profile changed since the last call.
+     * A chart of an older version never replaces a newer one, even when evaluations race.
+     */
+    public Chart current() {
+        ProfileSnapshot profile = store.snapshot();
+        Chart chart = latest.get();
+        if (chart != null && chart.getVersion() == profile.getVersion()) {
+            return chart;
+        }
+        Chart computed = evaluateParallel(profile, executor);
+        CalculatorWarmup.reportFirstReading();
+        while (true) {
+            Chart prev = latest.get();
+            if (prev != null && prev.getVersion() >= computed.getVersion()) {
+                return prev.getVersion() == computed.getVersion() ? prev : computed;
+            }
+            if (latest.compareAndSet(prev, computed)) {
+                return computed;
+            }
+        }
+    }
+
+    public static Chart evaluate(ProfileSnapshot profile) {
+        return evaluate(profile, Calendar.getInstance());
+    }
+
+    /**
+     * Chart with the forecast numbers of the day {@code today}; the calendar is only read.
+     */
+    public static Chart evaluate(ProfileSnapshot profile, Calendar today) {
+        Chart.Builder builder = new Chart.Builder();
+        builder.version = profile.getVersion();
+        fillNameNumbers(profile, builder);
+        fillDateNumbers(profile, builder);
+        fillCombinedNumbers(profile, builder);
+        fillForecastNumbers(profile, today, builder);
+        return builder.build();
+    }
+
+    /**
+     * Hands the name and date families to {@code executor} and computes the forecast meanwhile. Afterwards the
+     * caller runs every family no worker has started yet itself, so it only ever waits on a family that is
+     * already running. This keeps the call safe on a single thread or saturated executor, including from one
+     * of its own workers.
+     */
+    public static Chart evaluateParallel(ProfileSnapshot profile, Executor executor) {
+        Chart.Builder builder = new Chart.Builder();
+        builder.version = profile.getVersion();
+        Family names = new Family(() -> fillNameNumbers(profile, builder));
+        Family dates = new Family(() -> fillDateNumbers(profile, builder));
+        executor.execute(names);
+        executor.execute(dates);
+        fillForecastNumbers(profile, Calendar.getInstance(), builder);
+        names.run();
+        dates.run();
+        // join() orders every write of the families before the combined numbers and build() read the builder
+        CompletableFuture.allOf(names.done, dates.done).join();
+        fillCombinedNumbers(profile, builder);
+        return builder.build();
+    }
+
+    private static void fillNameNumbers(ProfileSnapshot profile, Chart.Builder builder) {
+        builder.expressionNumber = ProfileCalculator.calcExpressionNumber(profile);
+        builder.personalityNumber = ProfileCalculator.calcPersonalityNumber(profile);
+        builder.destinyNumber = ProfileCalculator.calcDestinyNumber(profile);
+        builder.nameNumber = ProfileCalculator.calcNameNumber(profile);
+        builder.intelligenceNumber = ProfileCalculator.calcIntelligenceNumber(profile);
+        builder.balanceNumber = ProfileCalculator.calcBalanceNumber(profile);
+        builder.soulNumberLetters = ProfileCalculator.calcSoulNumberLetters(profile);
+        builder.desireNumber = ProfileCalculator.calcDesireNumber(profile);
+        builder.karmaNumbers = ProfileCalculator.calcKarmaNumber(profile);
+    }
+
+    private static void fillDateNumbers(ProfileSnapshot profile, Chart.Builder builder) {
+        builder.lifeNumber = ProfileCalculator.calcLifeNumberMethod1(profile);
+        builder.soulNumber = ProfileCalculator.calcSoulNumber(profile);
+        builder.characterNumber = ProfileCalculator.calcCharacterNumber(profile);
+        builder.moneyNumber = ProfileCalculator.calcMoneyNumber(profile);
+        builder.birthdayCode = ProfileCalculator.calcBirthdayCode(profile);
+        builder.luckyGem = ProfileCalculator.calcLuckyGem(profile);
+        builder.birthdayNumber = ProfileCalculator.calcBirthdayNumber(profile);
+        builder.achievmentPeriod = ProfileCalculator.calcAchievmentPeriod(profile);
+        builder.challengeNumbers = new int[]{
+                ProfileCalculator.calcChallengeNumber1(profile),
+                ProfileCalculator.calcChallengeNumber2(profile),
+                ProfileCalculator.calcChallengeNumber3(profile),
+                ProfileCalculator.calcChallengeNumber4(profile)};
+        builder.achievmentNumbers = new int[]{
+                ProfileCalculator.calcAchievmentNumber1(profile),
+                ProfileCalculator.calcAchievmentNumber2(profile),
+                ProfileCalculator.calcAchievmentNumber3(profile),
+                ProfileCalculator.calcAchievmentNumber4(profile)};
+        builder.pythagorosSquare = ProfileCalculator.calcPythagorosSquare(profile.getDateOfBirth());
+    }
+
+    /**
+     * Needs the name and date numbers in {@code builder} already.
+     */
+    private static void fillCombinedNumbers(ProfileSnapshot profile, Chart.Builder builder) {
+        builder.potencialNumber = ProfileCalculator.calcPotencialNumber(builder.birthdayCode, builder.destinyNumber);
+        builder.realizationNumber = ProfileCalculator.calcRealizationNumber(builder.lifeNumber, builder.expressionNumber);
+        builder.maturityNumber = ProfileCalculator.calcMaturityNumber(profile, builder.lifeNumber, builder.expressionNumber);
+        builder.marriageNumber = ProfileCalculator.calcMarriageNumber(builder.realizationNumber);
+    }
+
+    private static void fillForecastNumbers(ProfileSnapshot profile, Calendar today, Chart.Builder builder) {
+        builder.personalYear = ProfileCalculator.calcPersonalYear(profile, today);
+        builder.personalMonth = ProfileCalculator.calcPersonalMonth(profile, today);
+        builder.personalDay = ProfileCalculator.calcPersonalDay(profile, today);
+        builder.luckyDailyNumber = ProfileCalculator.calcLuckyDailyNumber(profile, today);
+    }
+
+    /**
+     * A family of numbers that runs once, on whichever thread claims it first.
+     */
+    private static final class Family implements Runnable {
+        private final Runnable fill;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        final CompletableFuture<Void> done = new CompletableFuture<>();
+
+        Family(Runnable fill) {
+            this.fill = fill;
+        }
+
+        @Override
+        public void run() {
+            if (!claimed.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                fill.run();
+                done.complete(null);
+            } catch (Throwable t) {
+                done.completeExceptionally(t);
+            }
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package numerology.dailymistika.ru.calc;
+
+import java.util.Arrays;
+
+/**
+ * Biorhythm compatibility of one profile against many saved partners.
+ *
+ * {@code |cos(PI * days / T)|} only depends on {@code days mod T}, so the score of a couple only depends on
+ * the difference of their epoch days modulo the cycle. Every partner is stored once as that residue, the
+ * per-cycle scores come from small tables, and the overall score from one table indexed modulo 23 * 28 * 33.
+ * Ranking is a counting sort over the precomputed order of that table, so it is linear in the number of partners.
+ *
+ * The overall score is the plain average of the physical, emotional and intellectual cycles. The app has no such
+ * number, its compatibility screen shows the three cycles as separate bars; averaging them is only how this class
+ * orders partners, the additional cycles do not take part.
+ *
+ * Dates are {day, month, year} arrays with a 0-based month, like {@code NumbersCalculator.calcCompBioRhytm}.
+ * Scores match it up to float rounding.
+ */
+public final class CoupleCompatibility {
+
+    /**
+     * Cycle lengths in days: the three main cycles, then the additional ones in the order of
+     * {@code NumbersCalculator.calcDailyBioRhytmAdditional}.
+     */
+    public static final int[] CYCLES = {23, 28, 33, 53, 48, 43, 38};
+
+    private static final int MAIN_CYCLES = 3;
+    private static final int OVERALL_PERIOD = 23 * 28 * 33;
+
+    private static final float[][] CYCLE_SCORES = buildCycleScores();
+    private static final float[] OVERALL_SCORES = new float[OVERALL_PERIOD];
+    private static final int[] OVERALL_RANKS = new int[OVERALL_PERIOD];
+    private static final int OVERALL_RANK_COUNT = buildOverall();
+
+    private long[] epochDays = new long[16];
+    private int[] residues = new int[16];
+    private int size;
+
+    private static float[][] buildCycleScores() {
+        float[][] scores = new float[CYCLES.length][];
+        for (int c = 0; c < CYCLES.length; c++) {
+            scores[c] = new float[CYCLES[c]];
+            for (int k = 0; k < CYCLES[c]; k++) {
+                scores[c][k] = Math.abs((float) (Math.cos(Math.PI * k / CYCLES[c]) * 100d));
+            }
+        }
+        return scores;
+    }
+
+    private static int buildOverall() {
+        long[] keys = new long[OVERALL_PERIOD];
+        for (int m = 0; m < OVERALL_PERIOD; m++) {
+            OVERALL_SCORES[m] = (CYCLE_SCORES[0][m % 23] + CYCLE_SCORES[1][m % 28] + CYCLE_SCORES[2][m % 33]) / 3f;
+            // scores are positive, so their bits sort like the floats; inverted to sort best first
+            keys[m] = ((long) (Integer.MAX_VALUE - Float.floatToIntBits(OVERALL_SCORES[m])) << 32) | m;
+        }
+        Arrays.sort(keys);
+        int rank = -1;
+        float previous = Float.NaN;
+        for (long key : keys) {
+            int m = (int) key;
+            if (OVERALL_SCORES[m] != previous) {
+                previous = OVERALL_SCORES[m];
+                rank++;
+            }
+            OVERALL_RANKS[m] = rank;
+        }
+        return rank + 1;
+    }
+
+    public static long epochDay(int[] date) {
+        return ForecastTimeline.epochDay(date[2], date[1] + 1, date[0]);
+    }
+
+    /**
+     * Stores a partner and returns its index.
+     */
+    public int addPartner(int[] date) {
+        if (size == epochDays.length) {
+            epochDays = Arrays.copyOf(epochDays, size * 2);
+            residues = Arrays.copyOf(residues, size * 2);
+        }
+        long epochDay = epochDay(date);
+        epochDays[size] = epochDay;
+        residues[size] = (int) Math.floorMod(epochDay, (long) OVERALL_PERIOD);
+        return size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Scores of all {@link #CYCLES} for myself and the partner at {@code index}.
+     */
+    public float[] calcCompBioRhytm(int[] myself, int index) {
+        long days = epochDay(myself) - epochDays[index];
+        float[] rhytms = new float[CYCLES.length];
+        for (int c = 0; c < CYCLES.length; c++) {
+            rhytms[c] = CYCLE_SCORES[c][(int) Math.floorMod(days, (long) CYCLES[c])];
+        }
+        return rhytms;
+    }
+
+    /**
+     * Overall score of every partner and their indexes sorted from the most to the least compatible.
+     * Partners with the same score keep the order they were added in.
+     */
+    public Ranking rank(int[] myself) {
+        int mine = (int) Math.floorMod(epochDay(myself), (long) OVERALL_PERIOD);
+        int n = size;
+        int[] residues = this.residues;
+        int[] ranks = new int[n];
+        float[] overall = new float[n];
+        int[] counts = new int[OVERALL_RANK_COUNT + 1];
+        for (int i = 0; i < n; i++) {
+            int m = mine - residues[i];
+            if (m < 0) {
+                m += OVERALL_PERIOD;
+            }
+            overall[i] = OVERALL_SCORES[m];
+            ranks[i] = OVERALL_RANKS[m];
+            counts[ranks[i] + 1]++;
+        }
+        for (int r = 0; r < OVERALL_RANK_COUNT; r++) {
+            counts[r + 1] += counts[r];
+        }
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[counts[ranks[i]]++] = i;
+        }
+        return new Ranking(order, overall);
+    }
+
+    public static final class Ranking {
+        private final int[] order;
+        private final float[] overall;
+
+        Ranking(int[] order, float[] overall) {
+            this.order = order;
+            this.overall = overall;
+        }
+
+        /**
+         * Partner indexes, most compatible first.
+         */
+        public int[] getOrder() {
+            return order.clone();
+        }
+
+        /**
+         * Index of the partner at {@code position} in the ranking.
+         */
+        public int getPartner(int position) {
+            return order[position];
+        }
+
+        /**
+         * Overall score of the partner at {@code index}, 0 to 100.
+         */
+        public float getOverall(int index) {
+            return overall[index];
+        }
+    }
+}
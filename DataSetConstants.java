@@ -0,0 +1,295 @@
+package numerology.dailymistika.ru.calc;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Letter values of the calculator: every letter of the supported alphabets with its number, and the same
+ * letters split into vowels and consonants (the other group maps to 0). Each call builds a new map;
+ * the calculator reads them through the primitive copies of {@link LetterTables}.
+ * The React Native port keeps the same tables in {@code src/utils/DataSetConstants.ts}.
+ */
+public final class DataSetConstants {
+
+    private DataSetConstants() {
+    }
+
+    public static Map<Character, Integer> getLetterToNumber() {
+        Map<Character, Integer> letters = new HashMap<>();
+        letters.put('a', 1);
+        letters.put('à', 1);
+        letters.put('á', 1);
+        letters.put('ã', 1);
+        letters.put('â', 1);
+        letters.put('ä', 1);
+        letters.put('ß', 2);
+        letters.put('j', 1);
+        letters.put('s', 1);
+        letters.put('b', 2);
+        letters.put('k', 2);
+        letters.put('t', 2);
+        letters.put('ö', 2);
+        letters.put('c', 3);
+        letters.put('ç', 3);
+        letters.put('l', 3);
+        letters.put('u', 3);
+        letters.put('ú', 3);
+        letters.put('ü', 3);
+        letters.put('ù', 3);
+        letters.put('û', 3);
+        letters.put('d', 4);
+        letters.put('m', 4);
+        letters.put('v', 4);
+        letters.put('e', 5);
+        letters.put('é', 5);
+        letters.put('ê', 5);
+        letters.put('è', 5);
+        letters.put('ë', 5);
+        letters.put('n', 5);
+        letters.put('ñ', 5);
+        letters.put('w', 5);
+        letters.put('f', 6);
+        letters.put('o', 6);
+        letters.put('ó', 6);
+        letters.put('ô', 6);
+        letters.put('õ', 6);
+        letters.put('œ', 6);
+        letters.put('x', 6);
+        letters.put('g', 7);
+        letters.put('p', 7);
+        letters.put('y', 7);
+        letters.put('ÿ', 7);
+        letters.put('h', 8);
+        letters.put('q', 8);
+        letters.put('z', 8);
+        letters.put('i', 9);
+        letters.put('î', 9);
+        letters.put('ï', 9);
+        letters.put('í', 9);
+        letters.put('r', 9);
+
+        letters.put('а', 1);
+        letters.put('и', 1);
+        letters.put('с', 1);
+        letters.put('ъ', 1);
+        letters.put('б', 2);
+        letters.put('й', 2);
+        letters.put('т', 2);
+        letters.put('ы', 2);
+        letters.put('в', 3);
+        letters.put('к', 3);
+        letters.put('у', 3);
+        letters.put('ь', 3);
+        letters.put('г', 4);
+        letters.put('л', 4);
+        letters.put('ф', 4);
+        letters.put('э', 4);
+        letters.put('д', 5);
+        letters.put('м', 5);
+        letters.put('х', 5);
+        letters.put('ю', 5);
+        letters.put('е', 6);
+        letters.put('н', 6);
+        letters.put('ц', 6);
+        letters.put('я', 6);
+        letters.put('ё', 7);
+        letters.put('о', 7);
+        letters.put('ч', 7);
+        letters.put('ж', 8);
+        letters.put('п', 8);
+        letters.put('ш', 8);
+        letters.put('з', 9);
+        letters.put('р', 9);
+        letters.put('щ', 9);
+        letters.put(' ', 0);
+        return letters;
+    }
+
+    public static Map<Character, Integer> getVowLetterToNumber() {
+        Map<Character, Integer> letters = new HashMap<>();
+        letters.put('a', 1);
+        letters.put('à', 1);
+        letters.put('á', 1);
+        letters.put('ã', 1);
+        letters.put('â', 1);
+        letters.put('ä', 1);
+        letters.put('e', 5);
+        letters.put('é', 5);
+        letters.put('ê', 5);
+        letters.put('è', 5);
+        letters.put('ë', 5);
+        letters.put('o', 6);
+        letters.put('ó', 6);
+        letters.put('ô', 6);
+        letters.put('õ', 6);
+        letters.put('œ', 6);
+        letters.put('i', 9);
+        letters.put('î', 9);
+        letters.put('ï', 9);
+        letters.put('í', 9);
+        letters.put('ì', 9);
+        letters.put('u', 3);
+        letters.put('ú', 3);
+        letters.put('ü', 3);
+        letters.put('ù', 3);
+        letters.put('û', 3);
+        letters.put('ö', 2);
+        letters.put('y', 7);
+        letters.put('ÿ', 7);
+        // Consonants default to 0 for vows check
+        letters.put('j', 0);
+        letters.put('ß', 0);
+        letters.put('s', 0);
+        letters.put('b', 0);
+        letters.put('k', 0);
+        letters.put('t', 0);
+        letters.put('c', 0);
+        letters.put('ç', 0);
+        letters.put('l', 0);
+        letters.put('d', 0);
+        letters.put('m', 0);
+        letters.put('v', 0);
+        letters.put('n', 0);
+        letters.put('ñ', 0);
+        letters.put('w', 0);
+        letters.put('f', 0);
+        letters.put('x', 0);
+        letters.put('g', 0);
+        letters.put('p', 0);
+        letters.put('h', 0);
+        letters.put('q', 0);
+        letters.put('z', 0);
+        letters.put('r', 0);
+        letters.put(' ', 0);
+
+        // Cyrillic
+        letters.put('а', 1);
+        letters.put('о', 7);
+        letters.put('у', 3);
+        letters.put('э', 4);
+        letters.put('ы', 2);
+        letters.put('я', 6);
+        letters.put('ё', 7);
+        letters.put('ю', 5);
+        letters.put('е', 6);
+        letters.put('и', 1);
+        letters.put('б', 0);
+        letters.put('в', 0);
+        letters.put('г', 0);
+        letters.put('д', 0);
+        letters.put('ж', 0);
+        letters.put('з', 0);
+        letters.put('й', 0);
+        letters.put('к', 0);
+        letters.put('л', 0);
+        letters.put('м', 0);
+        letters.put('н', 0);
+        letters.put('п', 0);
+        letters.put('р', 0);
+        letters.put('с', 0);
+        letters.put('т', 0);
+        letters.put('ф', 0);
+        letters.put('х', 0);
+        letters.put('ц', 0);
+        letters.put('ч', 0);
+        letters.put('ш', 0);
+        letters.put('щ', 0);
+        letters.put('ъ', 0);
+        letters.put('ь', 0);
+        return letters;
+    }
+
+    public static Map<Character, Integer> getConLetterToNumber() {
+        Map<Character, Integer> letters = new HashMap<>();
+        // Vowels default to 0 for cons check
+        letters.put('a', 0);
+        letters.put('ö', 0);
+        letters.put('à', 0);
+        letters.put('á', 0);
+        letters.put('ã', 0);
+        letters.put('â', 0);
+        letters.put('ä', 0);
+        letters.put('ú', 0);
+        letters.put('ü', 0);
+        letters.put('ù', 0);
+        letters.put('û', 0);
+        letters.put('é', 0);
+        letters.put('ê', 0);
+        letters.put('è', 0);
+        letters.put('ë', 0);
+        letters.put('ó', 0);
+        letters.put('ô', 0);
+        letters.put('õ', 0);
+        letters.put('œ', 0);
+        letters.put('ÿ', 0);
+        letters.put('î', 0);
+        letters.put('ï', 0);
+        letters.put('í', 0);
+        letters.put('e', 0);
+        letters.put('i', 0);
+        letters.put('o', 0);
+        letters.put('u', 0);
+        letters.put('y', 0);
+        letters.put(' ', 0);
+
+        letters.put('j', 1);
+        letters.put('s', 1);
+        letters.put('b', 2);
+        letters.put('k', 2);
+        letters.put('t', 2);
+        letters.put('ß', 2);
+        letters.put('c', 3);
+        letters.put('ç', 3);
+        letters.put('l', 3);
+        letters.put('d', 4);
+        letters.put('m', 4);
+        letters.put('v', 4);
+        letters.put('n', 5);
+        letters.put('ñ', 5);
+        letters.put('w', 5);
+        letters.put('f', 6);
+        letters.put('x', 6);
+        letters.put('g', 7);
+        letters.put('p', 7);
+        letters.put('h', 8);
+        letters.put('q', 8);
+        letters.put('z', 8);
+        letters.put('r', 9);
+
+        // Cyrillic
+        letters.put('с', 1);
+        letters.put('ъ', 1);
+        letters.put('б', 2);
+        letters.put('й', 2);
+        letters.put('т', 2);
+        letters.put('в', 3);
+        letters.put('к', 3);
+        letters.put('ь', 3);
+        letters.put('г', 4);
+        letters.put('л', 4);
+        letters.put('ф', 4);
+        letters.put('д', 5);
+        letters.put('м', 5);
+        letters.put('х', 5);
+        letters.put('н', 6);
+        letters.put('ц', 6);
+        letters.put('ч', 7);
+        letters.put('ж', 8);
+        letters.put('п', 8);
+        letters.put('ш', 8);
+        letters.put('з', 9);
+        letters.put('р', 9);
+        letters.put('щ', 9);
+        letters.put('а', 0);
+        letters.put('и', 0);
+        letters.put('о', 0);
+        letters.put('у', 0);
+        letters.put('э', 0);
+        letters.put('ы', 0);
+        letters.put('я', 0);
+        letters.put('ё', 0);
+        letters.put('ю', 0);
+        letters.put('е', 0);
+        return letters;
+    }
+}
@@ -0,0 +1,156 @@
+package numerology.dailymistika.ru.calc;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Runs an alternative {@link ChartEngine} over a {@link GoldenDataset} in parallel and reports where it
+ * gives other readings than the reference did. Profiles are checked in dataset order, so the reported
+ * divergences are always the first ones, whatever the parallelism. A reading the reference failed on
+ * diverges when the candidate gives a value for it.
+ */
+public final class DifferentialHarness {
+
+    private DifferentialHarness() {
+    }
+
+    public static Report run(GoldenDataset dataset, ChartEngine candidate, int maxDivergences) {
+        return run(dataset, candidate, maxDivergences, d -> false);
+    }
+
+    /**
+     * @param expected divergences the candidate is meant to have, they are counted instead of reported.
+     *                 Called from several threads.
+     */
+    public static Report run(GoldenDataset dataset, ChartEngine candidate, int maxDivergences, Predicate<Divergence> expected) {
+        LongAdder expectedCount = new LongAdder();
+        List<Divergence> divergences = IntStream.range(0, dataset.size())
+                .parallel()
+                .mapToObj(i -> compare(dataset, candidate, i, expected, expectedCount))
+                .filter(d -> d != null)
+                .limit(maxDivergences)
+                .collect(Collectors.toList());
+        return new Report(dataset.size(), divergences, expectedCount.intValue());
+    }
+
+    private static Divergence compare(GoldenDataset dataset, ChartEngine candidate, int index,
+                                      Predicate<Divergence> expected, LongAdder expectedCount) {
+        ProfileSnapshot profile = dataset.getProfile(index);
+        int[] want = dataset.getReadings(index);
+        int[] actual;
+        try {
+            actual = GoldenDataset.readings(candidate.evaluate(profile, dataset.getDate()));
+        } catch (RuntimeException e) {
+            String error = e.getClass().getName();
+            if (error.equals(dataset.getError(index))) {
+                return null;
+            }
+            return new Divergence(index, profile, "exception", String.valueOf(dataset.getError(index)), error);
+        }
+        for (int j = 0; j < want.length; j++) {
+            boolean failed = dataset.isFailed(index, j);
+            if (failed || want[j] != actual[j]) {
+                Divergence d = new Divergence(index, profile, GoldenDataset.READINGS[j],
+                        failed ? dataset.getError(index) : String.valueOf(want[j]), String.valueOf(actual[j]));
+                if (!expected.test(d)) {
+                    return d;
+                }
+                expectedCount.increment();
+            }
+        }
+        return null;
+    }
+
+    public static final class Report {
+        private final int checked;
+        private final List<Divergence> divergences;
+        private final int expected;
+
+        Report(int checked, List<Divergence> divergences, int expected) {
+            this.checked = checked;
+            this.divergences = divergences;
+            this.expected = expected;
+        }
+
+        public int getChecked() {
+            return checked;
+        }
+
+        /**
+         * Readings that diverged as expected, in the profiles compared.
+         */
+        public int getExpected() {
+            return expected;
+        }
+
+        public boolean isIdentical() {
+            return divergences.isEmpty();
+        }
+
+        public List<Divergence> getDivergences() {
+            return divergences;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            sb.append(checked).append(" profiles checked, ")
+                    .append(divergences.isEmpty() ? "no divergences" : "first divergences:");
+            for (Divergence d : divergences) {
+                sb.append('\n').append(d);
+            }
+            return sb.toString();
+        }
+    }
+
+    /**
+     * The first reading of a profile on which the candidate disagreed with the reference, or one of them while
+     * checking whether it was expected.
+     */
+    public static final class Divergence {
+        private final int index;
+        private final ProfileSnapshot profile;
+        private final String reading;
+        private final String expected;
+        private final String actual;
+
+        Divergence(int index, ProfileSnapshot profile, String reading, String expected, String actual) {
+            this.index = index;
+            this.profile = profile;
+            this.reading = reading;
+            this.expected = expected;
+            this.actual = actual;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public ProfileSnapshot getProfile() {
+            return profile;
+        }
+
+        public String getReading() {
+            return reading;
+        }
+
+        public String getExpected() {
+            return expected;
+        }
+
+        public String getActual() {
+            return actual;
+        }
+
+        @Override
+        public String toString() {
+            return "#" + index + " " + Arrays.asList(profile.getLanguage(), profile.getAppLanguage(), profile.getFirstName(), profile.getFatherName(),
+                    profile.getLastName(), profile.getDateOfBirth())
+                    + " " + reading + ": expected " + expected + ", got " + actual;
+        }
+    }
+}
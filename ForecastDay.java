@@ -0,0 +1,94 @@
+package numerology.dailymistika.ru.calc;
+
+/**
+ * One day of a {@link ForecastTimeline}. Unlike the date strings of the preferences,
+ * {@link #getMonth()} is 1-based (January = 1).
+ */
+public final class ForecastDay {
+
+    private final int day;
+    private final int month;
+    private final int year;
+    private final int personalYear;
+    private final int personalMonth;
+    private final int personalDay;
+    private final int luckyNumber;
+    private final float[] bioRhytm;
+    private final float[] bioRhytmAdditional;
+    private final int period;
+    private final int achievmentNumber;
+    private final int challengeNumber;
+
+    ForecastDay(int day, int month, int year, int personalYear, int personalMonth, int personalDay, int luckyNumber,
+                float[] bioRhytm, float[] bioRhytmAdditional, int period, int achievmentNumber, int challengeNumber) {
+        this.day = day;
+        this.month = month;
+        this.year = year;
+        this.personalYear = personalYear;
+        this.personalMonth = personalMonth;
+        this.personalDay = personalDay;
+        this.luckyNumber = luckyNumber;
+        this.bioRhytm = bioRhytm;
+        this.bioRhytmAdditional = bioRhytmAdditional;
+        this.period = period;
+        this.achievmentNumber = achievmentNumber;
+        this.challengeNumber = challengeNumber;
+    }
+
+    public int getDay() {
+        return day;
+    }
+
+    public int getMonth() {
+        return month;
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    public int getPersonalYear() {
+        return personalYear;
+    }
+
+    public int getPersonalMonth() {
+        return personalMonth;
+    }
+
+    public int getPersonalDay() {
+        return personalDay;
+    }
+
+    public int getLuckyNumber() {
+        return luckyNumber;
+    }
+
+    /**
+     * Physical, emotional and intellectual cycles, as in {@code NumbersCalculator.calcDailyBioRhytm}.
+     */
+    public float[] getBioRhytm() {
+        return bioRhytm.clone();
+    }
+
+    /**
+     * The 53, 48, 43 and 38 day cycles, as in {@code NumbersCalculator.calcDailyBioRhytmAdditional}.
+     */
+    public float[] getBioRhytmAdditional() {
+        return bioRhytmAdditional.clone();
+    }
+
+    /**
+     * Achievment/challenge period the day falls into, 1 to 4.
+     */
+    public int getPeriod() {
+        return period;
+    }
+
+    public int getAchievmentNumber() {
+        return achievmentNumber;
+    }
+
+    public int getChallengeNumber() {
+        return challengeNumber;
+    }
+}
@@ -0,0 +1,274 @@
+package numerology.dailymistika.ru.calc;
+
+import java.util.Calendar;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.lang.Math.sin;
+
+/**
+ * Lazily generated day-by-day forecast of one profile over an arbitrary horizon. Everything that only
+ * depends on the profile is computed once; the personal year is recomputed when the year changes and
+ * dates are stepped incrementally, so memory stays constant however long the timeline is.
+ * The spliterator splits on year boundaries, so a parallel stream hands whole years to each worker.
+ *
+ * Each day uses its own year and month: unlike the {@code addValue} overloads of
+ * {@link ProfileCalculator#calcPersonalMonth(ProfileSnapshot, int)} and
+ * {@link ProfileCalculator#calcPersonalDay(ProfileSnapshot, int)}, which keep the current personal year/month,
+ * months and days after a year change get that year's numbers. For today both give the same values.
+ *
+ * The biorhythms count the days since birth like {@code DatesCalculator.calcDaysAfterBorn}: milliseconds from
+ * the local midnight of the birthday, floored to whole days. For whole calendar days that is the difference
+ * of their epoch days; the app only counts one day less during the daylight saving offset right after
+ * midnight, when the birthday lies on the other side of a clock change.
+ *
+ * The achievment/challenge period follows the pinnacle rule of the numerology books, which no calculator
+ * of the app implements: the first period lasts until the age of 36 minus
+ * {@link ProfileCalculator#calcAchievmentPeriod} (the life number reduced to one digit), the second and third
+ * last 9 years each and the fourth the rest of life. Ages are full years on the day.
+ */
+public final class ForecastTimeline implements Iterable<ForecastDay> {
+
+    private final Base base;
+    private final long startEpochDay;
+    private final long endEpochDay;
+
+    private ForecastTimeline(Base base, long startEpochDay, long endEpochDay) {
+        this.base = base;
+        this.startEpochDay = startEpochDay;
+        this.endEpochDay = endEpochDay;
+    }
+
+    public static ForecastTimeline of(ProfileSnapshot profile, Calendar start, int days) {
+        long startEpochDay = epochDay(start.get(Calendar.YEAR), start.get(Calendar.MONTH) + 1, start.get(Calendar.DAY_OF_MONTH));
+        return new ForecastTimeline(new Base(profile), startEpochDay, startEpochDay + days);
+    }
+
+    public static ForecastTimeline ofYears(ProfileSnapshot profile, Calendar start, int years) {
+        int year = start.get(Calendar.YEAR);
+        int month = start.get(Calendar.MONTH) + 1;
+        int day = Math.min(start.get(Calendar.DAY_OF_MONTH), daysInMonth(month, year + years));
+        long startEpochDay = epochDay(year, month, start.get(Calendar.DAY_OF_MONTH));
+        return new ForecastTimeline(new Base(profile), startEpochDay, epochDay(year + years, month, day));
+    }
+
+    public long size() {
+        return endEpochDay - startEpochDay;
+    }
+
+    @Override
+    public Iterator<ForecastDay> iterator() {
+        return Spliterators.iterator(spliterator());
+    }
+
+    @Override
+    public Spliterator<ForecastDay> spliterator() {
+        return new DaySpliterator(base, startEpochDay, endEpochDay);
+    }
+
+    public Stream<ForecastDay> stream(boolean parallel) {
+        return StreamSupport.stream(spliterator(), parallel);
+    }
+
+    /**
+     * Days since 1970-01-01 of a proleptic Gregorian date, month 1-based.
+     */
+    static long epochDay(int year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(y, 400);
+        long yoe = y - era * 400;
+        long doy = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        long doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+        return era * 146097 + doe - 719468;
+    }
+
+    static int yearOfEpochDay(long epochDay) {
+        long z = epochDay + 719468;
+        long era = Math.floorDiv(z, 146097);
+        long doe = z - era * 146097;
+        long yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+        long doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+        long mp = (5 * doy + 2) / 153;
+        return (int) (yoe + era * 400 + (mp >= 10 ? 1 : 0));
+    }
+
+    static int daysInMonth(int month, int year) {
+        switch (month) {
+            case 2:
+                return (year % 4 == 0 && year % 100 != 0) || year % 400 == 0 ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * Everything that only depends on the profile, shared read-only by all spliterators of a timeline.
+     */
+    private static final class Base {
+        final int birthDay;
+        final int birthMonth;
+        final int birthYear;
+        final long birthEpochDay;
+        final int dayMonthPart;
+        final int lifeNumber;
+        final int[] periodEnds;
+        final int[] achievmentNumbers;
+        final int[] challengeNumbers;
+
+        Base(ProfileSnapshot profile) {
+            String[] date = profile.getDateOfBirth().split("/");
+            birthDay = Integer.valueOf(date[0]);
+            birthMonth = Integer.valueOf(date[1]) + 1;
+            birthYear = Integer.valueOf(date[2]);
+            birthEpochDay = epochDay(birthYear, birthMonth, birthDay);
+            // same digit sums as ProfileCalculator.calcPersonalYear, month string still 0-based there
+            dayMonthPart = ProfileCalculator.calcToSingleDigitWithMagicNums(ProfileCalculator.charToNumber(date[0].toCharArray()))
+                    + ProfileCalculator.calcToSingleDigitWithMagicNums(ProfileCalculator.charToNumber(date[1].toCharArray()) + 1);
+            lifeNumber = ProfileCalculator.calcLifeNumberMethod1(profile);
+            int firstEnd = 36 - ProfileCalculator.calcAchievmentPeriod(profile);
+            periodEnds = new int[]{firstEnd, firstEnd + 9, firstEnd + 18};
+            achievmentNumbers = new int[]{
+                    ProfileCalculator.calcAchievmentNumber1(profile),
+                    ProfileCalculator.calcAchievmentNumber2(profile),
+                    ProfileCalculator.calcAchievmentNumber3(profile),
+                    ProfileCalculator.calcAchievmentNumber4(profile)};
+            challengeNumbers = new int[]{
+                    ProfileCalculator.calcChallengeNumber1(profile),
+                    ProfileCalculator.calcChallengeNumber2(profile),
+                    ProfileCalculator.calcChallengeNumber3(profile),
+                    ProfileCalculator.calcChallengeNumber4(profile)};
+        }
+
+        int personalYear(int year) {
+            return ProfileCalculator.calcToSingleDigit(dayMonthPart + ProfileCalculator.calcToSingleDigitWithMagicNums(year));
+        }
+
+        int period(int day, int month, int year) {
+            int age = year - birthYear;
+            if (month < birthMonth || (month == birthMonth && day < birthDay)) {
+                age--;
+            }
+            int period = 0;
+            while (period < periodEnds.length && age >= periodEnds[period]) {
+                period++;
+            }
+            return period;
+        }
+    }
+
+    private static final class DaySpliterator implements Spliterator<ForecastDay> {
+        private final Base base;
+        private final long end;
+        private long epochDay;
+        private int day;
+        private int month;
+        private int year;
+        private int personalYear;
+
+        DaySpliterator(Base base, long start, long end) {
+            this.base = base;
+            this.end = end;
+            this.epochDay = start;
+            if (start < end) {
+                int y = yearOfEpochDay(start);
+                long dayOfYear = start - epochDay(y, 1, 1);
+                int m = 1;
+                while (dayOfYear >= daysInMonth(m, y)) {
+                    dayOfYear -= daysInMonth(m, y);
+                    m++;
+                }
+                moveTo((int) dayOfYear + 1, m, y);
+            }
+        }
+
+        private void moveTo(int day, int month, int year) {
+            if (year != this.year || personalYear == 0) {
+                personalYear = base.personalYear(year);
+            }
+            this.day = day;
+            this.month = month;
+            this.year = year;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super ForecastDay> action) {
+            if (epochDay >= end) {
+                return false;
+            }
+            action.accept(current());
+            epochDay++;
+            if (day < daysInMonth(month, year)) {
+                day++;
+            } else if (month < 12) {
+                day = 1;
+                month++;
+            } else {
+                moveTo(1, 1, year + 1);
+            }
+            return true;
+        }
+
+        private ForecastDay current() {
+            int personalMonth = ProfileCalculator.calcToSingleDigit(personalYear + month);
+            int personalDay = ProfileCalculator.calcToSingleDigit(personalMonth + day);
+            int luckyNumber = ProfileCalculator.calcToSingleDigit(personalDay + base.lifeNumber);
+            double days = epochDay - base.birthEpochDay;
+            float[] rhytms = new float[3];
+            rhytms[0] = phase(days, 23d);
+            rhytms[1] = phase(days, 28d);
+            rhytms[2] = phase(days, 33d);
+            float[] additional = new float[4];
+            additional[0] = phase(days, 53d);
+            additional[1] = phase(days, 48d);
+            additional[2] = phase(days, 43d);
+            additional[3] = phase(days, 38d);
+            int period = base.period(day, month, year);
+            return new ForecastDay(day, month, year, personalYear, personalMonth, personalDay, luckyNumber,
+                    rhytms, additional, period + 1, base.achievmentNumbers[period], base.challengeNumbers[period]);
+        }
+
+        private static float phase(double days, double cycle) {
+            float rhytm = (float) (sin(2d * Math.PI * (days) / cycle) * 100d);
+            return rhytm < 0 && rhytm > -0.1 ? 0 : rhytm;
+        }
+
+        /**
+         * Splits off the first half of the remaining years, cut on the 1st of January.
+         */
+        @Override
+        public Spliterator<ForecastDay> trySplit() {
+            if (end - epochDay < 2) {
+                return null;
+            }
+            int lastYear = yearOfEpochDay(end - 1);
+            if (lastYear <= year) {
+                return null;
+            }
+            int splitYear = year + (lastYear - year + 1) / 2;
+            long splitEpochDay = epochDay(splitYear, 1, 1);
+            DaySpliterator prefix = new DaySpliterator(base, epochDay, splitEpochDay);
+            epochDay = splitEpochDay;
+            moveTo(1, 1, splitYear);
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return Math.max(0, end - epochDay);
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+        }
+    }
+}
@@ -0,0 +1,338 @@
+package numerology.dailymistika.ru.calc;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Calendar;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Profiles together with the readings the reference calculator gives for them. The profiles cover the
+ * quirks a rewrite is most likely to break: ru vs other master-number rules, German ü/ä, accented and
+ * unknown letters, the 0-based month strings, untrimmed father names and the psychomatrix concatenation.
+ * Every reading is computed on its own, so a reading the reference fails on is marked failed together with
+ * the exception name while the other readings of that profile are still recorded.
+ *
+ * Time dependent numbers (personal year/month/day, lucky daily number) are recorded for one fixed day,
+ * {@link #getDate()}, and candidates are evaluated for that day.
+ */
+public final class GoldenDataset {
+
+    public static final String[] READINGS = buildReadingNames();
+
+    private static final int MAGIC = 0x4E554D47;
+    private static final int FORMAT_VERSION = 3;
+
+    private static final String[] LANGUAGES = {"ru", "en", "de", "es", "fr", "it", "pt"};
+    private static final String[][] FIRST_NAMES = {
+            {"Иван", "Мария", "Алёна", "Пётр", "Юлия", "Эдуард", "Ксения", "Шамиль", "Яна", "Щедрин"},
+            {"John", "Mary", "Elizabeth", "Zachary", "Kyle", "Yvonne", "Quincy", "Wendy", "Bob", "Xavier"},
+            {"Jürgen", "Bärbel", "Günter", "Jörg", "Käthe", "Ülrich", "Hans", "Grete", "Maß", "Anneliese"},
+            {"José", "María", "Núñez", "Iñigo", "Lucía", "Ángel", "Raúl", "Pilar", "Jesús", "Begoña"},
+            {"Zoë", "Hélène", "François", "Benoît", "Gaëlle", "Noël", "Cœur", "Jérôme", "Anaïs", "Loïc"},
+            {"Niccolò", "Lucia", "Giosuè", "Andrea", "Mattia", "Pietro", "Ilaria", "Fabrizio", "Chiara", "Gianluca"},
+            {"João", "Conceição", "Antônio", "Inês", "Luís", "Gonçalo", "Tânia", "Marília", "Raíssa", "Zé"}};
+    private static final String[][] FATHER_NAMES = {
+            {"Иванович", "Петровна", "Сергеевич", " Ильич ", "Фёдоровна", ""},
+            {"", " ", "Lee", "Ann"},
+            {"", "Maria", " Jürgen "},
+            {"", "de la Cruz", "Ángel"},
+            {"", "Marie", " Noël "},
+            {"", "Maria", "Giovanni"},
+            {"", "da Silva", " João "}};
+    private static final String[][] LAST_NAMES = {
+            {"Иванов", "Смирнова", "Кузнецов", "Жуков", "Цой", "Хабенский", "Ёлкин", "Щукина", "Петров-Водкин"},
+            {"Doe", "Smith", "O'Neil", "Johnson", "Zimmerman", "Quigley", "Van Dyke", "Young"},
+            {"Müller", "Schäfer", "Weiß", "Größer", "Bäcker", "Hoffmann", "Köhler", "Zürn"},
+            {"García", "Núñez", "Peña", "Muñoz", "Ibáñez", "López", "Gómez", "Sánchez"},
+            {"Lefèvre", "Boëlle", "Dupré", "Mercier", "Façon", "Moreau", "Château", "Brûlé"},
+            {"Rossi", "Bianchi", "Cantù", "Niccolì", "Esposito", "Romano", "Galilei", "Fò"},
+            {"Gonçalves", "Simões", "Magalhães", "Araújo", "Conceição", "Pereira", "Brandão", "Assunção"}};
+
+    private final long seed;
+    private final int year;
+    private final int month;
+    private final int day;
+    private final ProfileSnapshot[] profiles;
+    private final int[][] readings;
+    // bit j set: the reference failed on reading j
+    private final long[] failed;
+    private final String[] errors;
+
+    private GoldenDataset(long seed, int year, int month, int day, ProfileSnapshot[] profiles, int[][] readings,
+                          long[] failed, String[] errors) {
+        this.seed = seed;
+        this.year = year;
+        this.month = month;
+        this.day = day;
+        this.profiles = profiles;
+        this.readings = readings;
+        this.failed = failed;
+        this.errors = errors;
+    }
+
+    /**
+     * The calculator the readings are recorded from, asked for one reading at a time.
+     */
+    public interface Reference {
+
+        /**
+         * @param index index into {@link #READINGS}
+         */
+        int reading(ProfileSnapshot profile, Calendar today, int index);
+    }
+
+    private static String[] buildReadingNames() {
+        String[] names = {"lifeNumber", "expressionNumber", "personalityNumber", "destinyNumber", "potencialNumber",
+                "nameNumber", "realizationNumber", "intelligenceNumber", "balanceNumber", "soulNumber",
+                "soulNumberLetters", "characterNumber", "moneyNumber", "birthdayCode", "luckyGem", "birthdayNumber",
+                "maturityNumber", "marriageNumber", "desireNumber", "achievmentPeriod",
+                "personalYear", "personalMonth", "personalDay", "luckyDailyNumber"};
+        String[] all = new String[names.length + 4 + 4 + 10 + 9];
+        System.arraycopy(names, 0, all, 0, names.length);
+        int j = names.length;
+        for (int i = 1; i <= 4; i++) all[j++] = "challengeNumber" + i;
+        for (int i = 1; i <= 4; i++) all[j++] = "achievmentNumber" + i;
+        for (int i = 0; i < 10; i++) all[j++] = "karmaNumber[" + i + "]";
+        for (int i = 1; i <= 9; i++) all[j++] = "pythagorosSquare[" + i + "]";
+        return all;
+    }
+
+    /**
+     * Flattens the numbers of a chart in the order of {@link #READINGS}.
+     */
+    public static int[] readings(Chart chart) {
+        int[] r = new int[READINGS.length];
+        int j = 0;
+        r[j++] = chart.getLifeNumber();
+        r[j++] = chart.getExpressionNumber();
+        r[j++] = chart.getPersonalityNumber();
+        r[j++] = chart.getDestinyNumber();
+        r[j++] = chart.getPotencialNumber();
+        r[j++] = chart.getNameNumber();
+        r[j++] = chart.getRealizationNumber();
+        r[j++] = chart.getIntelligenceNumber();
+        r[j++] = chart.getBalanceNumber();
+        r[j++] = chart.getSoulNumber();
+        r[j++] = chart.getSoulNumberLetters();
+        r[j++] = chart.getCharacterNumber();
+        r[j++] = chart.getMoneyNumber();
+        r[j++] = chart.getBirthdayCode();
+        r[j++] = chart.getLuckyGem();
+        r[j++] = chart.getBirthdayNumber();
+        r[j++] = chart.getMaturityNumber();
+        r[j++] = chart.getMarriageNumber();
+        r[j++] = chart.getDesireNumber();
+        r[j++] = chart.getAchievmentPeriod();
+        r[j++] = chart.getPersonalYear();
+        r[j++] = chart.getPersonalMonth();
+        r[j++] = chart.getPersonalDay();
+        r[j++] = chart.getLuckyDailyNumber();
+        for (int v : chart.getChallengeNumbers()) r[j++] = v;
+        for (int v : chart.getAchievmentNumbers()) r[j++] = v;
+        for (int v : chart.getKarmaNumbers()) r[j++] = v;
+        for (int v : chart.getPythagorosSquare()) r[j++] = v;
+        return r;
+    }
+
+    /**
+     * Deterministic pseudo-random profiles: the same seed always gives the same profiles.
+     */
+    public static ProfileSnapshot[] profiles(long seed, int count) {
+        SplittableRandom random = new SplittableRandom(seed);
+        ProfileSnapshot[] profiles = new ProfileSnapshot[count];
+        for (int i = 0; i < count; i++) {
+            int lang = random.nextInt(LANGUAGES.length);
+            // names of another alphabet show up too, people keep their keyboard when switching the app language
+            int alphabet = random.nextInt(4) == 0 ? random.nextInt(LANGUAGES.length) : lang;
+            String firstName = pick(random, FIRST_NAMES[alphabet]);
+            String fatherName = pick(random, FATHER_NAMES[alphabet]);
+            String lastName = pick(random, LAST_NAMES[alphabet]);
+            if (random.nextInt(8) == 0) {
+                firstName = firstName.toUpperCase(Locale.ROOT);
+            }
+            int year = 1900 + random.nextInt(131);
+            int month = random.nextInt(12);
+            int day = 1 + random.nextInt(ForecastTimeline.daysInMonth(month + 1, year));
+            String date = random.nextBoolean()
+                    ? day + "/" + month + "/" + year
+                    : (day < 10 ? "0" : "") + day + "/" + (month < 10 ? "0" : "") + month + "/" + year;
+            // LanguageController falls back to its default when the app language is not supported
+            String appLanguage = random.nextInt(8) == 0 ? "en" : LANGUAGES[lang];
+            profiles[i] = ProfileSnapshot.of(LANGUAGES[lang], appLanguage, firstName, fatherName, lastName, date, "", "");
+        }
+        return profiles;
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    public static GoldenDataset generate(Reference reference, Calendar today, long seed, int count) {
+        ProfileSnapshot[] profiles = profiles(seed, count);
+        int[][] readings = new int[count][READINGS.length];
+        long[] failed = new long[count];
+        String[] errors = new String[count];
+        GoldenDataset dataset = new GoldenDataset(seed, today.get(Calendar.YEAR), today.get(Calendar.MONTH),
+                today.get(Calendar.DAY_OF_MONTH), profiles, readings, failed, errors);
+        IntStream.range(0, count).parallel().forEach(i -> {
+            for (int j = 0; j < READINGS.length; j++) {
+                try {
+                    readings[i][j] = reference.reading(profiles[i], dataset.getDate(), j);
+                } catch (RuntimeException e) {
+                    failed[i] |= 1L << j;
+                    if (errors[i] == null) {
+                        errors[i] = e.getClass().getName();
+                    }
+                }
+            }
+        });
+        return dataset;
+    }
+
+    /**
+     * Seed of {@link #profiles} the dataset was generated from.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * The day the forecast numbers were recorded for, as a new calendar on every call (calendars are mutable).
+     */
+    public Calendar getDate() {
+        Calendar date = Calendar.getInstance();
+        date.clear();
+        date.set(year, month, day, 12, 0);
+        return date;
+    }
+
+    public int size() {
+        return profiles.length;
+    }
+
+    public ProfileSnapshot getProfile(int index) {
+        return profiles[index];
+    }
+
+    /**
+     * Expected readings of a profile in the order of {@link #READINGS}; failed readings are 0.
+     */
+    public int[] getReadings(int index) {
+        return readings[index];
+    }
+
+    /**
+     * Whether the reference failed on {@code reading} of the profile.
+     */
+    public boolean isFailed(int index, int reading) {
+        return (failed[index] & 1L << reading) != 0;
+    }
+
+    /**
+     * Class name of the first exception the reference threw for a profile, {@code null} when no reading failed.
+     */
+    public String getError(int index) {
+        return errors[index];
+    }
+
+    /**
+     * Writes the dataset gzipped, readings as zigzag varints (most of them fit in one byte).
+     */
+    public void write(OutputStream out) throws IOException {
+        GZIPOutputStream gzip = new GZIPOutputStream(out);
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(gzip));
+        data.writeInt(MAGIC);
+        data.writeInt(FORMAT_VERSION);
+        data.writeLong(seed);
+        writeVarInt(data, year);
+        writeVarInt(data, month);
+        writeVarInt(data, day);
+        writeVarInt(data, READINGS.length);
+        writeVarInt(data, profiles.length);
+        for (int i = 0; i < profiles.length; i++) {
+            ProfileSnapshot p = profiles[i];
+            data.writeUTF(p.getLanguage());
+            data.writeUTF(p.getAppLanguage());
+            data.writeUTF(p.getFirstName());
+            data.writeUTF(p.getFatherName());
+            data.writeUTF(p.getLastName());
+            data.writeUTF(p.getDateOfBirth());
+            data.writeLong(failed[i]);
+            if (failed[i] != 0) {
+                data.writeUTF(errors[i]);
+            }
+            for (int v : readings[i]) {
+                writeVarInt(data, (v << 1) ^ (v >> 31));
+            }
+        }
+        data.flush();
+        gzip.finish();
+    }
+
+    public static GoldenDataset read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(new GZIPInputStream(in)));
+        if (data.readInt() != MAGIC || data.readInt() != FORMAT_VERSION) {
+            throw new IOException("Not a golden dataset of version " + FORMAT_VERSION);
+        }
+        long seed = data.readLong();
+        int year = readVarInt(data);
+        int month = readVarInt(data);
+        int day = readVarInt(data);
+        int fields = readVarInt(data);
+        if (fields != READINGS.length) {
+            throw new IOException("Dataset has " + fields + " readings per profile, expected " + READINGS.length);
+        }
+        int count = readVarInt(data);
+        ProfileSnapshot[] profiles = new ProfileSnapshot[count];
+        int[][] readings = new int[count][fields];
+        long[] failed = new long[count];
+        String[] errors = new String[count];
+        for (int i = 0; i < count; i++) {
+            String language = data.readUTF();
+            String appLanguage = data.readUTF();
+            String firstName = data.readUTF();
+            String fatherName = data.readUTF();
+            String lastName = data.readUTF();
+            String date = data.readUTF();
+            profiles[i] = ProfileSnapshot.of(language, appLanguage, firstName, fatherName, lastName, date, "", "");
+            failed[i] = data.readLong();
+            if (failed[i] != 0) {
+                errors[i] = data.readUTF();
+            }
+            for (int j = 0; j < fields; j++) {
+                int v = readVarInt(data);
+                readings[i][j] = (v >>> 1) ^ -(v & 1);
+            }
+        }
+        return new GoldenDataset(seed, year, month, day, profiles, readings, failed, errors);
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+}
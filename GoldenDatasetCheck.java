@@ -0,0 +1,148 @@
+package numerology.dailymistika.ru.calc;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Checks the current calculator against {@code golden-dataset.gz}: 10000 profiles of
+ * {@link GoldenDataset#profiles} (seed 20261019) with the readings the calculator of the initial commit gave
+ * for them on 2026-10-19. The dataset is generated by {@code GoldenDatasetGenerator} of the jvm module
+ * ({@code gradle -p jvm generateGoldenDataset}). The forecast numbers of the first {@link ForecastTimeline}
+ * day are checked against the same readings.
+ *
+ * Two changes are expected, and only in the readings computed from the names ({@link #isNameReading}):
+ * names the normalization changes (accented letters the letter tables do not know), which the initial
+ * calculator counted as 0 or failed on, and names with a character outside the letter tables, such as the
+ * apostrophe of O'Neil or the hyphen of Петров-Водкин, on which the initial calculator failed in the vowel
+ * sum with a NullPointerException and which now count as 0. Both are counted separately; any other
+ * divergence, including a date reading of such a profile, fails the check.
+ *
+ * <pre>
+ * java numerology.dailymistika.ru.calc.GoldenDatasetCheck [dataset]
+ * </pre>
+ */
+public final class GoldenDatasetCheck {
+
+    private static final int SHOWN = 20;
+    private static final String[] FORECAST = {"personalYear", "personalMonth", "personalDay", "luckyDailyNumber"};
+    // every other reading only reads the date of birth and the language
+    private static final Set<String> NAME_READINGS = new HashSet<>(Arrays.asList("expressionNumber",
+            "personalityNumber", "destinyNumber", "potencialNumber", "nameNumber", "realizationNumber",
+            "intelligenceNumber", "balanceNumber", "soulNumberLetters", "maturityNumber", "marriageNumber",
+            "desireNumber", "karmaNumber"));
+
+    private GoldenDatasetCheck() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        String path = args.length > 0 ? args[0] : "golden-dataset.gz";
+        GoldenDataset dataset;
+        try (InputStream in = new FileInputStream(path)) {
+            dataset = GoldenDataset.read(in);
+        }
+
+        Set<Integer> renormalized = ConcurrentHashMap.newKeySet();
+        Set<Integer> unknownLetters = ConcurrentHashMap.newKeySet();
+        DifferentialHarness.Report report = DifferentialHarness.run(dataset, ChartEvaluator::evaluate, Integer.MAX_VALUE,
+                d -> isExpected(d, renormalized, unknownLetters));
+        List<String> unexpected = new ArrayList<>();
+        for (DifferentialHarness.Divergence divergence : report.getDivergences()) {
+            unexpected.add(divergence.toString());
+        }
+        System.out.println(report.getChecked() + " charts checked, " + renormalized.size()
+                + " differ on names the normalization changes, " + unknownLetters.size()
+                + " no longer fail on characters outside the letter tables, " + report.getExpected()
+                + " name readings in all; " + unexpected.size() + " other divergences");
+
+        int days = 0;
+        List<String> timeline = new ArrayList<>();
+        List<String> readingNames = Arrays.asList(GoldenDataset.READINGS);
+        for (int i = 0; i < dataset.size(); i++) {
+            int[] expected = dataset.getReadings(i);
+            ForecastDay day = ForecastTimeline.of(dataset.getProfile(i), dataset.getDate(), 1).iterator().next();
+            int[] actual = {day.getPersonalYear(), day.getPersonalMonth(), day.getPersonalDay(), day.getLuckyNumber()};
+            days++;
+            for (int f = 0; f < FORECAST.length; f++) {
+                int reading = readingNames.indexOf(FORECAST[f]);
+                if (dataset.isFailed(i, reading)) {
+                    continue;
+                }
+                int want = expected[reading];
+                if (want != actual[f]) {
+                    timeline.add("#" + i + " timeline " + FORECAST[f] + ": expected " + want + ", got " + actual[f]);
+                    break;
+                }
+            }
+        }
+        System.out.println(days + " timeline days checked, " + timeline.size() + " divergences");
+
+        if (!unexpected.isEmpty() || !timeline.isEmpty()) {
+            List<String> shown = new ArrayList<>(unexpected);
+            shown.addAll(timeline);
+            throw new AssertionError("readings changed:\n" + String.join("\n", shown.subList(0, Math.min(SHOWN, shown.size()))));
+        }
+    }
+
+    /**
+     * Whether a divergence is one of the two expected changes, adding its profile to the one it is.
+     */
+    static boolean isExpected(DifferentialHarness.Divergence d, Set<Integer> renormalized, Set<Integer> unknownLetters) {
+        if (!isNameReading(d.getReading())) {
+            return false;
+        }
+        if (isRenormalized(d.getProfile())) {
+            renormalized.add(d.getIndex());
+            return true;
+        }
+        if (NullPointerException.class.getName().equals(d.getExpected()) && hasUnknownLetter(d.getProfile())) {
+            unknownLetters.add(d.getIndex());
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Whether {@code reading}, a name of {@link GoldenDataset#READINGS}, is computed from the names.
+     */
+    static boolean isNameReading(String reading) {
+        int bracket = reading.indexOf('[');
+        return NAME_READINGS.contains(bracket < 0 ? reading : reading.substring(0, bracket));
+    }
+
+    /**
+     * Whether the normalization gives another name than the lower casing of the initial calculator did.
+     */
+    static boolean isRenormalized(ProfileSnapshot profile) {
+        String language = profile.getLanguage();
+        return changes(profile.getFirstName(), language)
+                || changes(profile.getFatherName().trim(), language)
+                || changes(profile.getLastName(), language);
+    }
+
+    /**
+     * Whether a normalized name has a character the vowel table does not know.
+     */
+    static boolean hasUnknownLetter(ProfileSnapshot profile) {
+        NameForms forms = profile.getNameForms();
+        for (char[] name : new char[][]{forms.firstName, forms.fatherName, forms.lastName}) {
+            for (char c : name) {
+                if (LetterTables.lookup(LetterTables.VOWELS, c) == LetterTables.UNKNOWN) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean changes(String name, String language) {
+        return !NameNormalizer.normalize(name, language).equals(name.toLowerCase(Locale.ROOT));
+    }
+}
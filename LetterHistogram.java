@@ -0,0 +1,130 @@
+package numerology.dailymistika.ru.calc;
+
+import java.util.Arrays;
+
+/**
+ * Counts how often every digit 0-9 occurs among the letters of a name, in one pass over the
+ * primitive {@link LetterTables#LETTERS} table.
+ * Letters missing from the table count as 0, like in the original karma calculation.
+ * Several names can be packed into one char buffer and counted in a single call.
+ *
+ * The counting loop works on a scratch buffer of {@link #PARTIAL_SIZE} ints that the caller allocates once
+ * and hands to {@link #accumulate} for every name, then {@link #fold}s into the histogram.
+ * {@link #karmaLessons} backs {@link Chart#getKarmaLessons}; {@link #hiddenPassion} and {@link #intensity}
+ * are the other readings numerology derives from the same histogram and have no screen in the app yet.
+ */
+public final class LetterHistogram {
+
+    public static final int DIGITS = 10;
+    public static final int PARTIAL_SIZE = DIGITS * 4;
+
+    private LetterHistogram() {
+    }
+
+    public static int[] count(char[] letters) {
+        int[] partial = new int[PARTIAL_SIZE];
+        accumulate(letters, 0, letters.length, partial);
+        int[] histogram = new int[DIGITS];
+        fold(partial, histogram, 0);
+        return histogram;
+    }
+
+    /**
+     * Adds the digit counts of {@code buffer[from, to)} to the scratch buffer {@code partial}.
+     * The loop keeps four partial histograms so consecutive letters mapping to the same digit do not
+     * wait on each other's increment, and the table read stays a plain bounds-checked array load.
+     */
+    public static void accumulate(char[] buffer, int from, int to, int[] partial) {
+        byte[] table = LetterTables.LETTERS;
+        int i = from;
+        for (; i + 3 < to; i += 4) {
+            char c0 = buffer[i];
+            char c1 = buffer[i + 1];
+            char c2 = buffer[i + 2];
+            char c3 = buffer[i + 3];
+            partial[digit(table, c0)]++;
+            partial[DIGITS + digit(table, c1)]++;
+            partial[DIGITS * 2 + digit(table, c2)]++;
+            partial[DIGITS * 3 + digit(table, c3)]++;
+        }
+        for (; i < to; i++) {
+            partial[digit(table, buffer[i])]++;
+        }
+    }
+
+    /**
+     * Adds the counts gathered in {@code partial} to {@code out[outOffset, outOffset + 10)} and clears
+     * {@code partial} for the next name.
+     */
+    public static void fold(int[] partial, int[] out, int outOffset) {
+        for (int d = 0; d < DIGITS; d++) {
+            out[outOffset + d] += partial[d] + partial[DIGITS + d] + partial[DIGITS * 2 + d] + partial[DIGITS * 3 + d];
+        }
+        Arrays.fill(partial, 0);
+    }
+
+    private static int digit(byte[] table, char letter) {
+        return Math.max(LetterTables.lookup(table, letter), 0);
+    }
+
+    /**
+     * Counts a batch of names packed into {@code buffer}. Name {@code n} spans
+     * {@code buffer[offsets[n], offsets[n + 1])}; its histogram is {@code result[n * 10, n * 10 + 10)}.
+     */
+    public static int[] countBatch(char[] buffer, int[] offsets) {
+        int names = offsets.length - 1;
+        int[] histograms = new int[names * DIGITS];
+        int[] partial = new int[PARTIAL_SIZE];
+        for (int n = 0; n < names; n++) {
+            accumulate(buffer, offsets[n], offsets[n + 1], partial);
+            fold(partial, histograms, n * DIGITS);
+        }
+        return histograms;
+    }
+
+    /**
+     * Karmic lessons: the digits 1-9 that never occur in the name, ascending, like the lessons listed on
+     * the destiny screen.
+     */
+    public static int[] karmaLessons(int[] histograms, int offset) {
+        int missing = 0;
+        for (int d = 1; d < DIGITS; d++) {
+            if (histograms[offset + d] == 0) {
+                missing++;
+            }
+        }
+        int[] lessons = new int[missing];
+        int j = 0;
+        for (int d = 1; d < DIGITS; d++) {
+            if (histograms[offset + d] == 0) {
+                lessons[j++] = d;
+            }
+        }
+        return lessons;
+    }
+
+    /**
+     * Hidden passion: the digit 1-9 occurring most often, 0 for a name without letters.
+     * When several digits share the highest count the smallest of them wins; the books leave ties open
+     * and this keeps the reading deterministic. Letters counted as 0 never take part.
+     */
+    public static int hiddenPassion(int[] histograms, int offset) {
+        int passion = 0;
+        int best = 0;
+        for (int d = 1; d < DIGITS; d++) {
+            if (histograms[offset + d] > best) {
+                best = histograms[offset + d];
+                passion = d;
+            }
+        }
+        return passion;
+    }
+
+    /**
+     * Intensity of {@code digit}: how many letters of the name map to it. For digit 0 that is the number
+     * of letters missing from the table.
+     */
+    public static int intensity(int[] histograms, int offset, int digit) {
+        return histograms[offset + digit];
+    }
+}
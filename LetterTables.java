@@ -0,0 +1,37 @@
+package numerology.dailymistika.ru.calc;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Primitive copies of the {@link DataSetConstants} letter maps, indexed by the letter itself.
+ * {@link #UNKNOWN} marks letters a map does not contain. Built once, on first use or by {@link CalculatorWarmup}.
+ */
+final class LetterTables {
+
+    static final byte UNKNOWN = -1;
+
+    static final byte[] LETTERS = build(DataSetConstants.getLetterToNumber());
+    static final byte[] VOWELS = build(DataSetConstants.getVowLetterToNumber());
+    static final byte[] CONSONANTS = build(DataSetConstants.getConLetterToNumber());
+
+    private LetterTables() {
+    }
+
+    private static byte[] build(Map<Character, Integer> letterToNumber) {
+        int max = 0;
+        for (char letter : letterToNumber.keySet()) {
+            max = Math.max(max, letter);
+        }
+        byte[] table = new byte[max + 1];
+        Arrays.fill(table, UNKNOWN);
+        for (Map.Entry<Character, Integer> entry : letterToNumber.entrySet()) {
+            table[entry.getKey()] = entry.getValue().byteValue();
+        }
+        return table;
+    }
+
+    static int lookup(byte[] table, char letter) {
+        return letter < table.length ? table[letter] : UNKNOWN;
+    }
+}
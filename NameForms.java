@@ -0,0 +1,35 @@
+package numerology.dailymistika.ru.calc;
+
+/**
+ * Normalized names of a {@link ProfileSnapshot}, shared by all calculators and by the later versions of a
+ * {@link ProfileStore} until the names or the language change.
+ * The arrays are read-only by contract. First and last names are not trimmed and the father name is,
+ * as the calculator always did; both matter for the balance number which counts every character.
+ */
+final class NameForms {
+
+    final char[] firstName;
+    final char[] fatherName;
+    final char[] lastName;
+    /**
+     * Trimmed father name without case folding, which is what the karma calculation has always counted.
+     */
+    final char[] fatherNameUnfolded;
+
+    private NameForms(char[] firstName, char[] fatherName, char[] lastName, char[] fatherNameUnfolded) {
+        this.firstName = firstName;
+        this.fatherName = fatherName;
+        this.lastName = lastName;
+        this.fatherNameUnfolded = fatherNameUnfolded;
+    }
+
+    static NameForms of(ProfileSnapshot profile) {
+        String language = profile.getLanguage();
+        String fatherName = profile.getFatherName().trim();
+        return new NameForms(
+                NameNormalizer.normalize(profile.getFirstName(), language).toCharArray(),
+                NameNormalizer.normalize(fatherName, language).toCharArray(),
+                NameNormalizer.normalize(profile.getLastName(), language).toCharArray(),
+                fatherName.toCharArray());
+    }
+}
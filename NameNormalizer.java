@@ -0,0 +1,100 @@
+package numerology.dailymistika.ru.calc;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * Brings a name into the form the letter tables expect, whatever keyboard it was typed on:
+ * composed (NFC), passed through the transliteration hook of the language, case folded without
+ * depending on the device locale. Letters the tables know are kept as they are, so ё, й and the
+ * German ü/ä keep their own numbers. Other letters lose their accents (ò becomes o) or get a fallback;
+ * combining marks are dropped. Anything else is kept and counts as an unknown letter, like before.
+ */
+public final class NameNormalizer {
+
+    private static final Map<String, UnaryOperator<String>> TRANSLITERATIONS = new ConcurrentHashMap<>();
+
+    private NameNormalizer() {
+    }
+
+    /**
+     * Registers a hook applied to every name of profiles in {@code language} before folding.
+     * Snapshots normalized earlier keep their forms, so hooks belong to app start.
+     */
+    public static void registerTransliteration(String language, UnaryOperator<String> hook) {
+        TRANSLITERATIONS.put(language, hook);
+    }
+
+    public static String normalize(String name, String language) {
+        String composed = Normalizer.normalize(name, Normalizer.Form.NFC);
+        UnaryOperator<String> hook = language == null ? null : TRANSLITERATIONS.get(language);
+        if (hook != null) {
+            composed = hook.apply(composed);
+        }
+        String folded = composed.toLowerCase(Locale.ROOT);
+        StringBuilder sb = null;
+        for (int i = 0; i < folded.length(); i++) {
+            char c = folded.charAt(i);
+            if (isKnown(c)) {
+                if (sb != null) {
+                    sb.append(c);
+                }
+                continue;
+            }
+            if (sb == null) {
+                sb = new StringBuilder(folded.length()).append(folded, 0, i);
+            }
+            appendUnknown(sb, c);
+        }
+        return sb == null ? folded : sb.toString();
+    }
+
+    private static boolean isKnown(char c) {
+        return LetterTables.lookup(LetterTables.LETTERS, c) != LetterTables.UNKNOWN;
+    }
+
+    private static void appendUnknown(StringBuilder sb, char c) {
+        char fallback = fallback(c);
+        if (fallback != 0) {
+            sb.append(fallback);
+            return;
+        }
+        String decomposed = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD);
+        for (int i = 0; i < decomposed.length(); i++) {
+            char part = decomposed.charAt(i);
+            if (Character.getType(part) != Character.NON_SPACING_MARK) {
+                sb.append(part);
+            }
+        }
+    }
+
+    /**
+     * Letters without a canonical decomposition that still have an obvious base letter.
+     */
+    private static char fallback(char c) {
+        switch (c) {
+            case 'ø':
+                return 'o';
+            case 'ł':
+                return 'l';
+            case 'đ':
+                return 'd';
+            case 'ı':
+                return 'i';
+            case 'ħ':
+                return 'h';
+            // Ukrainian letters typed on a Russian profile
+            case 'і':
+                return 'и';
+            case 'є':
+                return 'е';
+            case 'ґ':
+                return 'г';
+            default:
+                return 0;
+        }
+    }
+}
@@ -0,0 +1,739 @@
+package numerology.dailymistika.ru.calc;
+
+import java.util.Calendar;
+
+/**
+ * The numbers of a {@link ProfileSnapshot}. Plain Java without Android dependencies, so it runs on a server
+ * or in a batch job as well; {@code NumbersCalculator} adapts it to the app's preferences.
+ */
+public final class ProfileCalculator {
+
+    private ProfileCalculator() {
+    }
+
+    public static int calcCoupleNumber(ProfileSnapshot profile) {
+        String date = profile.getDateOfBirth();
+        String couple1,couple2;
+        String datePartner = profile.getPartnerDateOfBirth();
+        int coupleNumber1, coupleNumber2;
+        couple1 = date.split("/")[0] + (Integer.valueOf(date.split("/")[1]) + 1) + date.split("/")[2];
+        coupleNumber1 = calcToSingleDigit(Integer.valueOf(couple1));
+
+        couple2 = datePartner.split("/")[0] + (Integer.valueOf(datePartner.split("/")[1]) + 1) + datePartner.split("/")[2];
+        coupleNumber2 = calcToSingleDigit(Integer.valueOf(couple2));
+
+        return calcToSingleDigit(coupleNumber1 + coupleNumber2);
+    }
+
+    public static int calcLifeNumberMethod1(ProfileSnapshot profile) {
+        String date = profile.getDateOfBirth();
+        int lifeNumberDay, lifeNumberMonth, lifeNumberYear;
+        boolean isStop = false;
+        lifeNumberDay = Integer.valueOf(date.split("/")[0]);
+        lifeNumberMonth = Integer.valueOf(date.split("/")[1]) + 1;
+        lifeNumberYear = Integer.valueOf(date.split("/")[2]);
+
+        lifeNumberDay = calcToSingleDigitWithMagicNums(lifeNumberDay);
+        lifeNumberMonth = calcToSingleDigitWithMagicNums(lifeNumberMonth);
+        lifeNumberYear = calcToSingleDigitWithMagicNums(lifeNumberYear);
+
+        return calcToSingleDigitWithMagicNums(lifeNumberDay + lifeNumberMonth + lifeNumberYear);
+    }
+
+    public static int calcLifeNumberPartner(ProfileSnapshot profile) {
+        String date = profile.getPartnerDateOfBirth();
+        int lifeNumberDay, lifeNumberMonth, lifeNumberYear;
+        lifeNumberDay = Integer.valueOf(date.split("/")[0]);
+        lifeNumberMonth = Integer.valueOf(date.split("/")[1]) + 1;
+        lifeNumberYear = Integer.valueOf(date.split("/")[2]);
+
+        lifeNumberDay = calcToSingleDigitWithMagicNums(lifeNumberDay);
+        lifeNumberMonth = calcToSingleDigitWithMagicNums(lifeNumberMonth);
+        lifeNumberYear = calcToSingleDigitWithMagicNums(lifeNumberYear);
+
+        return calcToSingleDigitWithMagicNums(lifeNumberDay + lifeNumberMonth + lifeNumberYear);
+    }
+
+    public static int calcLuckyDailyNumber(ProfileSnapshot profile) {
+        return calcLuckyDailyNumber(profile, Calendar.getInstance());
+    }
+
+    public static int calcLuckyDailyNumber(ProfileSnapshot profile, Calendar today) {
+        int luckyNum = 0;
+        luckyNum = calcPersonalDay(profile, today) + calcLifeNumberMethod1(profile);
+        return calcToSingleDigit(luckyNum);
+    }
+
+    public static int calcLuckyDailyNumber(ProfileSnapshot profile,int addValue) {
+        int luckyNum = 0;
+        luckyNum = calcPersonalDay(profile,addValue) + calcLifeNumberMethod1(profile);
+        return calcToSingleDigit(luckyNum);
+    }
+
+    public static int calcExpressionNumber(ProfileSnapshot profile) {
+        char[] name;
+        char[] lastName;
+        char[] middleName;
+        int nameNum = 0, lastNameNum = 0, middleNameNum = 0;
+        int expressionNumber = 0;
+        if (profile.getLanguage().equals("ru")) {
+            name = profile.getNameForms().firstName;
+            middleName = profile.getNameForms().fatherName;
+            lastName = profile.getNameForms().lastName;
+            nameNum = convertCharsAndSum(name,profile);
+            nameNum = calcNumToDigits(nameNum);
+            nameNum = calcNumToDigits(nameNum);
+
+            lastNameNum = convertCharsAndSum(lastName,profile);
+            lastNameNum = calcNumToDigits(lastNameNum);
+            lastNameNum = calcNumToDigits(lastNameNum);
+
+            middleNameNum = convertCharsAndSum(middleName,profile);
+            middleNameNum = calcNumToDigits(middleNameNum);
+            middleNameNum = calcNumToDigits(middleNameNum);
+
+            expressionNumber = calcToSingleDigit(nameNum + lastNameNum + middleNameNum);
+
+
+        } else {
+            name = profile.getNameForms().firstName;
+            lastName = profile.getNameForms().lastName;
+
+
+            nameNum = convertCharsAndSum(name,profile);
+            nameNum = calcNumToDigits(nameNum);
+            nameNum = calcNumToDigits(nameNum);
+
+            lastNameNum = convertCharsAndSum(lastName,profile);
+            lastNameNum = calcNumToDigits(lastNameNum);
+            lastNameNum = calcNumToDigits(lastNameNum);
+
+            if (profile.getNameForms().fatherName.length > 0) {
+                middleName = profile.getNameForms().fatherName;
+                middleNameNum = convertCharsAndSum(middleName,profile);
+                middleNameNum = calcNumToDigits(middleNameNum);
+                middleNameNum = calcNumToDigits(middleNameNum);
+            }
+
+
+            expressionNumber = calcNumToDigits(nameNum + lastNameNum + middleNameNum);
+            expressionNumber = calcToSingleDigitWithMagicNums(expressionNumber);
+
+        }
+
+
+        return expressionNumber;
+
+    }
+
+    public static int calcPersonalityNumber(ProfileSnapshot profile) {
+        char[] name;
+        char[] lastName;
+        char[] middleName;
+        boolean isStop = false;
+        int nameNum = 0, lastNameNum = 0, middleNameNum = 0;
+        int personalityNumber = 0;
+        if (profile.getLanguage().equals("ru")) {
+            name = profile.getNameForms().firstName;
+            middleName = profile.getNameForms().fatherName;
+            lastName = profile.getNameForms().lastName;
+            nameNum = convertConCharsAndSum(name);
+            nameNum = calcToSingleDigit(nameNum);
+            lastNameNum = convertConCharsAndSum(lastName);
+            lastNameNum = calcToSingleDigit(lastNameNum);
+            middleNameNum = convertConCharsAndSum(middleName);
+            middleNameNum = calcToSingleDigit(middleNameNum);
+
+            personalityNumber = nameNum + lastNameNum + middleNameNum;
+            while (!isStop) {
+                if (personalityNumber == 11 || personalityNumber == 22 || personalityNumber < 10) {
+                    isStop = true;
+                } else {
+                    personalityNumber = calcNumToDigits(personalityNumber);
+                }
+            }
+
+        } else {
+            name = profile.getNameForms().firstName;
+            lastName = profile.getNameForms().lastName;
+
+
+            nameNum = convertConCharsAndSum(name);
+            nameNum = calcToSingleDigit(nameNum);
+
+            lastNameNum = convertConCharsAndSum(lastName);
+            lastNameNum = calcToSingleDigit(lastNameNum);
+
+            if (profile.getNameForms().fatherName.length > 0) {
+                middleName = profile.getNameForms().fatherName;
+                middleNameNum = convertConCharsAndSum(middleName);
+                middleNameNum = calcToSingleDigit(middleNameNum);
+                personalityNumber = nameNum + lastNameNum + middleNameNum;
+            } else {
+                personalityNumber = nameNum + lastNameNum;
+            }
+
+            while (!isStop) {
+                if (personalityNumber == 11 || personalityNumber == 22 || personalityNumber < 10) {
+                    isStop = true;
+                } else {
+                    personalityNumber = calcNumToDigits(personalityNumber);
+                }
+            }
+
+        }
+        return personalityNumber;
+
+    }
+
+    public static int[] calcKarmaNumber(ProfileSnapshot profile) {
+        int[] finalArray = new int[LetterHistogram.DIGITS];
+        char[] name = profile.getNameForms().firstName;
+        char[] middleName = profile.getNameForms().fatherNameUnfolded;
+        char[] lastName = profile.getNameForms().lastName;
+        int[] partial = new int[LetterHistogram.PARTIAL_SIZE];
+        LetterHistogram.accumulate(name, 0, name.length, partial);
+        LetterHistogram.accumulate(middleName, 0, middleName.length, partial);
+        LetterHistogram.accumulate(lastName, 0, lastName.length, partial);
+        LetterHistogram.fold(partial, finalArray, 0);
+        return finalArray;
+    }
+
+    public static int calcDestinyNumber(ProfileSnapshot profile) {
+
+        char[] name;
+        char[] lastName;
+        char[] middleName;
+        boolean isStop = false;
+        int nameNum = 0, lastNameNum = 0, middleNameNum = 0;
+        int nameNumVow = 0, lastNameNumVow = 0, middleNameNumVow = 0;
+        int destinyNumber = 0;
+        name = profile.getNameForms().firstName;
+        middleName = profile.getNameForms().fatherName;
+        lastName = profile.getNameForms().lastName;
+
+        nameNum = convertConCharsAndSum(name);
+        nameNum = calcToSingleDigit(nameNum);
+        nameNumVow = convertVowCharsAndSum(name,profile);
+        nameNumVow = calcToSingleDigit(nameNumVow);
+
+        lastNameNum = convertConCharsAndSum(lastName);
+        lastNameNum = calcToSingleDigit(lastNameNum);
+        lastNameNumVow = convertVowCharsAndSum(lastName,profile);
+        lastNameNumVow = calcToSingleDigit(lastNameNumVow);
+
+        middleNameNum = convertConCharsAndSum(middleName);
+        middleNameNum = calcToSingleDigit(middleNameNum);
+        middleNameNumVow = convertVowCharsAndSum(middleName,profile);
+        middleNameNumVow = calcToSingleDigit(middleNameNumVow);
+
+
+        destinyNumber = nameNum + nameNumVow + lastNameNumVow + lastNameNum + middleNameNum + middleNameNumVow;
+        while (!isStop) {
+            if (destinyNumber == 11 || destinyNumber == 22 || destinyNumber < 10) {
+                isStop = true;
+            } else {
+                destinyNumber = calcNumToDigits(destinyNumber);
+            }
+        }
+
+        return destinyNumber;
+    }
+
+    public static int calcPotencialNumber(ProfileSnapshot profile) {
+        return calcPotencialNumber(calcBirthdayCode(profile), calcDestinyNumber(profile));
+    }
+
+    public static int calcPotencialNumber(int birthdayCode, int destinyNumber) {
+        return calcToSingleDigitWithMagicNums(birthdayCode + destinyNumber);
+    }
+
+    public static int calcNameNumber(ProfileSnapshot profile) {
+        NameForms forms = profile.getNameForms();
+        boolean isStop = false;
+        int nameNum = 0;
+        int nameNumber = 0;
+        if (profile.getLanguage().equals("ru")) {
+            nameNum = convertCharsAndSum(forms.firstName,profile) + convertCharsAndSum(forms.fatherName,profile) + convertCharsAndSum(forms.lastName,profile);
+            while (!isStop) {
+                if (nameNum == 11 || nameNum == 22 || nameNum < 10) {
+                    nameNumber = nameNum;
+                    isStop = true;
+                } else {
+                    nameNum = calcNumToDigits(nameNum);
+                }
+            }
+
+        } else {
+            if (forms.fatherName.length == 0) {
+                nameNum = convertCharsAndSum(forms.firstName,profile) + convertCharsAndSum(forms.lastName,profile);
+            } else {
+
+                nameNum = convertCharsAndSum(forms.firstName,profile) + convertCharsAndSum(forms.fatherName,profile) + convertCharsAndSum(forms.lastName,profile);
+            }
+
+            while (!isStop) {
+                if (nameNum < 10) {
+                    nameNumber = nameNum;
+                    isStop = true;
+                } else {
+                    nameNum = calcNumToDigits(nameNum);
+                }
+            }
+
+        }
+
+
+        return nameNumber;
+
+    }
+
+    public static int calcRealizationNumber(ProfileSnapshot profile) {
+        return calcRealizationNumber(calcLifeNumberMethod1(profile), calcExpressionNumber(profile));
+    }
+
+    public static int calcRealizationNumber(int lifeNumber, int expressionNumber) {
+        return calcToSingleDigitWithMagicNums(lifeNumber + expressionNumber);
+    }
+
+    public static int calcIntelligenceNumber(ProfileSnapshot profile) {
+        int intelligenceNumber = 0, nameNum, dayNum;
+        char[] name;
+        char[] day;
+        name = profile.getNameForms().firstName;
+        day = profile.getDateOfBirth().split("/")[0].toCharArray();
+
+        nameNum = convertCharsAndSum(name,profile);
+        nameNum = calcToSingleDigit(nameNum);
+
+        dayNum = charToNumber(day);
+        dayNum = calcToSingleDigit(dayNum);
+
+        intelligenceNumber = dayNum + nameNum;
+
+        intelligenceNumber = calcToSingleDigit(intelligenceNumber);
+
+        return intelligenceNumber;
+    }
+
+    public static int calcBalanceNumber(ProfileSnapshot profile) {
+        NameForms forms = profile.getNameForms();
+        int balanceNumber = 0;
+
+        balanceNumber = forms.firstName.length + forms.fatherName.length + forms.lastName.length;
+        return calcToSingleDigitWithMagicNums(balanceNumber);
+
+    }
+
+    public static int calcSoulNumber(ProfileSnapshot profile) {
+        char[] day;
+        day = profile.getDateOfBirth().split("/")[0].toCharArray();
+        return calcToSingleDigitWithMagicNums(charToNumber(day));
+    }
+
+    public static int calcSoulNumberLetters(ProfileSnapshot profile) {
+        char[] name;
+        char[] lastName;
+        char[] middleName;
+        boolean isStop = false;
+        int nameNum = 0, lastNameNum = 0, middleNameNum = 0;
+        int soulNumber = 0;
+            name = profile.getNameForms().firstName;
+            lastName = profile.getNameForms().lastName;
+            nameNum = convertVowCharsAndSum(name,profile);
+//            nameNum = calcToSingleDigit(nameNum);
+            lastNameNum = convertVowCharsAndSum(lastName,profile);
+//            lastNameNum = calcToSingleDigit(lastNameNum);
+
+            if (profile.getNameForms().fatherName.length > 0) {
+                middleName = profile.getNameForms().fatherName;
+                middleNameNum = convertVowCharsAndSum(middleName,profile);
+//                middleNameNum = calcToSingleDigit(middleNameNum);
+                soulNumber = nameNum + lastNameNum + middleNameNum;
+            } else {
+                soulNumber = nameNum + lastNameNum;
+            }
+
+            while (!isStop) {
+                if (soulNumber == 11 || soulNumber == 22 || soulNumber < 10) {
+                    isStop = true;
+                } else {
+                    soulNumber = calcNumToDigits(soulNumber);
+                }
+            }
+
+        return soulNumber;
+
+    }
+
+    public static int calcCharacterNumber(ProfileSnapshot profile) {
+        char[] day;
+        day = profile.getDateOfBirth().split("/")[0].toCharArray();
+        return calcToSingleDigitWithMagicNums(charToNumber(day));
+    }
+
+    public static int calcMoneyNumber(ProfileSnapshot profile) {
+        char[] day;
+        char[] month;
+        String date = profile.getDateOfBirth();
+        day = date.split("/")[0].toCharArray();
+        month = date.split("/")[1].toCharArray();
+        return calcToSingleDigit(calcToSingleDigit(charToNumber(day)) + calcToSingleDigit(charToNumber(month) + 1));
+    }
+
+    public static int calcBirthdayCode(ProfileSnapshot profile) {
+        int brthCodeNumber = 0, lifeNumberDay = 0, lifeNumberMonth = 0, lifeNumberYear = 0;
+        String date;
+        date = profile.getDateOfBirth();
+        lifeNumberDay = charToNumber(date.split("/")[0].toCharArray());
+        lifeNumberMonth = charToNumber(date.split("/")[1].toCharArray()) + 1;
+        lifeNumberYear = charToNumber(date.split("/")[2].toCharArray());
+
+        brthCodeNumber = lifeNumberDay + lifeNumberMonth + lifeNumberYear;
+        if (profile.getLanguage().equals("ru"))
+            return calcToSingleDigitWithMagicNums(brthCodeNumber);
+        else
+            return calcToSingleDigit(brthCodeNumber);
+    }
+
+    public static int calcLuckyGem(ProfileSnapshot profile) {
+        int luckyGem = Integer.valueOf(profile.getDateOfBirth().split("/")[0]);
+        return calcToSingleDigit(luckyGem);
+    }
+
+    public static int calcBirthdayNumber(ProfileSnapshot profile) {
+        return Integer.valueOf(profile.getDateOfBirth().split("/")[0]);
+    }
+
+    public static int calcMaturityNumber(ProfileSnapshot profile) {
+        return calcMaturityNumber(profile, calcLifeNumberMethod1(profile), calcExpressionNumber(profile));
+    }
+
+    public static int calcMaturityNumber(ProfileSnapshot profile, int lifeNumber, int expressionNumber) {
+        int maturityNumber = lifeNumber + expressionNumber;
+        if (profile.getLanguage().equals("ru"))
+            return calcToSingleDigit(maturityNumber);
+        else
+            return calcToSingleDigitWithMagicNums(maturityNumber);
+
+    }
+
+    public static int calcPersonalYear(ProfileSnapshot profile) {
+        return calcPersonalYear(profile, Calendar.getInstance());
+    }
+
+    /**
+     * Personal year on the day {@code today}; the calendar is only read.
+     */
+    public static int calcPersonalYear(ProfileSnapshot profile, Calendar today) {
+        int day, month, year;
+        String date = profile.getDateOfBirth();
+        year = today.get(Calendar.YEAR);
+        day = charToNumber(date.split("/")[0].toCharArray());
+        month = charToNumber(date.split("/")[1].toCharArray()) + 1;
+        year = calcToSingleDigitWithMagicNums(year);
+        day = calcToSingleDigitWithMagicNums(day);
+        month = calcToSingleDigitWithMagicNums(month);
+
+        return calcToSingleDigit(day + month + year);
+    }
+
+    public static int calcPersonalYear(ProfileSnapshot profile,int addValue) {
+        int day, month, year;
+        String date = profile.getDateOfBirth();
+        Calendar cal = Calendar.getInstance();
+        year = cal.get(Calendar.YEAR) + addValue;
+        day = charToNumber(date.split("/")[0].toCharArray());
+        month = charToNumber(date.split("/")[1].toCharArray()) + 1;
+        year = calcToSingleDigitWithMagicNums(year);
+        day = calcToSingleDigitWithMagicNums(day);
+        month = calcToSingleDigitWithMagicNums(month);
+
+        return calcToSingleDigit(day + month + year);
+    }
+
+    public static int calcPersonalMonth(ProfileSnapshot profile) {
+        return calcPersonalMonth(profile, Calendar.getInstance());
+    }
+
+    public static int calcPersonalMonth(ProfileSnapshot profile, Calendar today) {
+        int year = calcPersonalYear(profile, today);
+        int month = today.get(Calendar.MONTH) + 1;
+        return calcToSingleDigit(year + month);
+    }
+
+    public static int calcPersonalMonth(ProfileSnapshot profile,int addValue) {
+        int year = calcPersonalYear(profile);
+        Calendar cal = Calendar.getInstance();
+        cal.add(Calendar.MONTH,addValue);
+        int month = cal.get(Calendar.MONTH) + 1;
+        return calcToSingleDigit(year + month);
+    }
+
+    public static int calcMarriageNumber(ProfileSnapshot profile) {
+        return calcMarriageNumber(calcRealizationNumber(profile));
+    }
+
+    public static int calcMarriageNumber(int realizationNumber) {
+        return calcToSingleDigit(realizationNumber);
+    }
+
+    public static int calcPersonalDay(ProfileSnapshot profile) {
+        return calcPersonalDay(profile, Calendar.getInstance());
+    }
+
+    public static int calcPersonalDay(ProfileSnapshot profile, Calendar today) {
+        int month = calcPersonalMonth(profile, today);
+        int day = today.get(Calendar.DAY_OF_MONTH);
+        return calcToSingleDigit(month + day);
+    }
+
+    public static int calcPersonalDay(ProfileSnapshot profile,int i) {
+        int month = calcPersonalMonth(profile);
+        Calendar cal = Calendar.getInstance();
+        cal.add(Calendar.DATE,i);
+        int day = cal.get(Calendar.DAY_OF_MONTH);
+        return calcToSingleDigit(month + day);
+    }
+
+    public static int calcDesireNumber(ProfileSnapshot profile) {
+        int nameNum, lastNameNum;
+        char[] name;
+        char[] lastName;
+
+        name = profile.getNameForms().firstName;
+        lastName = profile.getNameForms().lastName;
+        nameNum = convertConCharsAndSum(name);
+        nameNum = calcToSingleDigitWithMagicNums(nameNum);
+
+        lastNameNum = convertConCharsAndSum(lastName);
+        lastNameNum = calcToSingleDigitWithMagicNums(lastNameNum);
+        return calcToSingleDigitWithMagicNums(nameNum + lastNameNum);
+    }
+
+    public static int calcAchievmentPeriod(ProfileSnapshot profile) {
+        return calcToSingleDigit(calcLifeNumberMethod1(profile));
+    }
+
+    public static int calcChallengeNumber1(ProfileSnapshot profile) {
+        char[] day;
+        char[] month;
+        int m;
+        String date = profile.getDateOfBirth();
+        day = date.split("/")[0].toCharArray();
+        month = date.split("/")[1].toCharArray();
+        m = calcToSingleDigit(charToNumber(month)) + 1;
+        return Math.abs(calcToSingleDigit(charToNumber(day)) - m);
+    }
+
+    public static int calcChallengeNumber2(ProfileSnapshot profile) {
+        char[] day;
+        char[] year;
+        String date = profile.getDateOfBirth();
+        day = date.split("/")[0].toCharArray();
+        year = date.split("/")[2].toCharArray();
+        return Math.abs(calcToSingleDigit(charToNumber(day)) - calcToSingleDigit(charToNumber(year)));
+    }
+
+    public static int calcChallengeNumber3(ProfileSnapshot profile) {
+        return Math.abs(calcChallengeNumber1(profile) - calcChallengeNumber2(profile));
+    }
+
+    public static int calcChallengeNumber4(ProfileSnapshot profile) {
+        char[] year;
+        char[] month;
+        int m;
+        String date = profile.getDateOfBirth();
+        year = date.split("/")[2].toCharArray();
+        month = date.split("/")[1].toCharArray();
+        m = calcToSingleDigit(charToNumber(month)) + 1;
+        return Math.abs(calcToSingleDigit(charToNumber(year)) - m);
+    }
+
+    public static int calcAchievmentNumber1(ProfileSnapshot profile) {
+        char[] day;
+        char[] month;
+        String date = profile.getDateOfBirth();
+        day = date.split("/")[0].toCharArray();
+        month = date.split("/")[1].toCharArray();
+        return calcToSingleDigit(calcToSingleDigit(charToNumber(day)) + calcToSingleDigit(charToNumber(month) + 1));
+    }
+
+    public static int calcAchievmentNumber2(ProfileSnapshot profile) {
+        char[] day;
+        char[] year;
+        String date = profile.getDateOfBirth();
+        day = date.split("/")[0].toCharArray();
+        year = date.split("/")[2].toCharArray();
+        return calcToSingleDigit(calcToSingleDigit(charToNumber(day)) + calcToSingleDigit(charToNumber(year)));
+    }
+
+    public static int calcAchievmentNumber3(ProfileSnapshot profile) {
+        int ach3 = calcAchievmentNumber1(profile) + calcAchievmentNumber2(profile);
+        return calcToSingleDigit(ach3);
+    }
+
+    public static int calcAchievmentNumber4(ProfileSnapshot profile) {
+        char[] year;
+        char[] month;
+        String date = profile.getDateOfBirth();
+        year = date.split("/")[2].toCharArray();
+        month = date.split("/")[1].toCharArray();
+        return calcToSingleDigit(calcToSingleDigit(charToNumber(year)) + calcToSingleDigit(charToNumber(month) + 1));
+    }
+
+    public static int calcLoveCompatibilityNum(int day, int month, int year, ProfileSnapshot profile) {
+        int number;
+        day = calcToSingleDigitWithMagicNums(day);
+        month = calcToSingleDigitWithMagicNums(month + 1);
+        year = calcToSingleDigitWithMagicNums(year);
+
+        number = calcToSingleDigitWithMagicNums(day + month + year);
+
+        number = number + calcLifeNumberMethod1(profile);
+        return calcToSingleDigit(number);
+    }
+
+    public static int[] calcPythagorosSquare(String date) {
+        int day;
+        int month;
+        int year;
+        int helping;
+        int helpYear = 0;
+        String helpNum, helpSingle;
+        int[] helpArray = new int[4];
+        int[] array = {0, 0, 0, 0, 0, 0, 0, 0, 0};
+        day = Integer.valueOf(date.split("/")[0]);
+        month = Integer.valueOf(date.split("/")[1]) + 1;
+        year = Integer.valueOf(date.split("/")[2]);
+//        if(year >= 2000){
+//            helpYear =  year - 1999;
+//            helpArray[0] = calcNumToDigits(day) + calcNumToDigits(month) + calcNumToDigits(1999)+ calcNumToDigits(helpYear);
+//        }else
+        helpArray[0] = calcNumToDigits(day) + calcNumToDigits(month) + calcNumToDigits(year);
+
+        helpArray[1] = calcNumToDigits(helpArray[0]);
+        if (day > 9) {
+            helpArray[2] = Math.abs(helpArray[0] - ((int) (day / 10) * 2));
+        } else {
+            helpArray[2] = Math.abs(helpArray[0] - (day * 2));
+        }
+        helpArray[3] = calcNumToDigits(helpArray[2]);
+        helpNum = "" + day + month + year + helpArray[0] + helpArray[1] + helpArray[2] + helpArray[3];
+        helpNum = helpNum.replace("0", "");
+        for (char single : helpNum.toCharArray()) {
+            helping = Character.getNumericValue(single);
+            if (array[helping - 1] == 0) {
+                array[helping - 1] = helping;
+            } else {
+                helpSingle = "" + array[helping - 1] + helping;
+                array[helping - 1] = Integer.valueOf(helpSingle);
+            }
+        }
+        return array;
+    }
+
+    public static int calcWeddingNumber(ProfileSnapshot profile) {
+        char[] day;
+        char[] year;
+        char[] month;
+        int m;
+        String date = profile.getWeddingDay();
+        year = date.split("/")[2].toCharArray();
+        month = date.split("/")[1].toCharArray();
+        day = date.split("/")[0].toCharArray();
+        m = calcToSingleDigit(charToNumber(month)) + 1;
+        return calcToSingleDigit(charToNumber(day) + charToNumber(year) + m);
+    }
+
+    private static int calcNumToDigits(int number) {
+        int sum = 0;
+        while (number > 0) {
+            sum = sum + number % 10;
+            number = number / 10;
+        }
+
+        return sum;
+    }
+
+    static int charToNumber(char[] digits) {
+        int lifeNumber = 0;
+        for (char digit : digits) {
+            lifeNumber = lifeNumber + Character.getNumericValue(digit);
+        }
+        return lifeNumber;
+    }
+
+    private static int convertCharsAndSum(char[] letters,ProfileSnapshot profile) {
+        boolean german = profile.getAppLanguage().equals("de");
+        int num = 0, let = 0;
+        for (char letter : letters) {
+            if (german && letter == 'ü') {
+                let = 8;
+            } else if (german && letter == 'ä') {
+                let = 6;
+            } else {
+                let = Math.max(LetterTables.lookup(LetterTables.LETTERS, letter), 0);
+            }
+
+            num = num + let;
+        }
+
+        return num;
+    }
+
+    private static int convertConCharsAndSum(char[] letters) {
+        int num = 0;
+        for (char letter : letters) {
+            num = num + Math.max(LetterTables.lookup(LetterTables.CONSONANTS, letter), 0);
+        }
+
+        return num;
+    }
+
+    private static int convertVowCharsAndSum(char[] letters,ProfileSnapshot profile) {
+        boolean german = profile.getAppLanguage().equals("de");
+        int num = 0;
+        for (char letter : letters) {
+            if (german && letter == 'ü') {
+                num = num + 8;
+            } else if (german && letter == 'ä') {
+                num = num + 6;
+            } else {
+                // apostrophes and hyphens (O'Neil, Петров-Водкин) count as 0 like in the other sums,
+                // the vowel map lookup used to fail on them
+                num = num + Math.max(LetterTables.lookup(LetterTables.VOWELS, letter), 0);
+            }
+        }
+
+        return num;
+    }
+
+    static int calcToSingleDigit(int number) {
+        boolean isStop = false;
+        int result = 0;
+        result = number;
+        while (!isStop) {
+            if (result < 10) {
+                isStop = true;
+            } else {
+                result = calcNumToDigits(result);
+            }
+        }
+        return result;
+    }
+
+    static int calcToSingleDigitWithMagicNums(int number) {
+        boolean isStop = false;
+        int result = 0;
+        result = number;
+        while (!isStop) {
+            if (result == 11 || result == 22 || result < 10) {
+                isStop = true;
+            } else {
+                result = calcNumToDigits(result);
+            }
+        }
+        return result;
+    }
+}
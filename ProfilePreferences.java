@@ -0,0 +1,92 @@
+package numerology.dailymistika.ru.calc;
+
+import android.content.Context;
+
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+
+import numerology.dailymistika.ru.LanguageController;
+import numerology.dailymistika.ru.metadata.Constants;
+import numerology.dailymistika.ru.misc.AppPreferences;
+
+/**
+ * Connects the app's preferences to the one {@link ProfileStore} of the process. Screens read the profile
+ * with {@link #snapshot}, and profile edits go through {@link #save}, which publishes them to the store and
+ * writes them to the preferences. The only Android part of the snapshot classes.
+ */
+public final class ProfilePreferences {
+
+    // loaded from the preferences on first use, then only changed by save() and reload()
+    private static volatile ProfileStore store;
+
+    private ProfilePreferences() {
+    }
+
+    /**
+     * Reads all calculator inputs from the preferences in one go.
+     */
+    public static ProfileSnapshot read(Context context) {
+        return ProfileSnapshot.of(AppPreferences.getValue(context, Constants.LANGUAGE),
+                LanguageController.getLanguage(context),
+                AppPreferences.getValue(context, Constants.FIRST_NAME),
+                AppPreferences.getValue(context, Constants.FATHER_NAME),
+                AppPreferences.getValue(context, Constants.LAST_NAME),
+                AppPreferences.getValue(context, Constants.DATE_OF_BIRTH),
+                AppPreferences.getValue(context, Constants.PARTNER_DATE_OF_BIRTH),
+                AppPreferences.getValue(context, Constants.WEDDING_DAY));
+    }
+
+    public static ProfileStore store(Context context) {
+        ProfileStore s = store;
+        if (s == null) {
+            synchronized (ProfilePreferences.class) {
+                s = store;
+                if (s == null) {
+                    s = new ProfileStore(read(context));
+                    store = s;
+                }
+            }
+        }
+        return s;
+    }
+
+    /**
+     * The current profile. A screen showing several numbers takes one snapshot and computes all of them
+     * from it with {@link ProfileCalculator}, so a save in between cannot mix two versions on one screen.
+     */
+    public static ProfileSnapshot snapshot(Context context) {
+        return store(context).snapshot();
+    }
+
+    /**
+     * Saves an edit of the profile, e.g. {@code save(context, p -> p.withName(first, father, last))}:
+     * every screen sees all of it at once, then the changed values are written to the preferences.
+     * The app language belongs to {@code LanguageController}; after changing it call {@link #reload}.
+     */
+    public static ProfileSnapshot save(Context context, UnaryOperator<ProfileSnapshot> edit) {
+        return store(context).save(edit, (prev, next) -> write(context, prev, next));
+    }
+
+    /**
+     * Re-reads the preferences after they were changed without {@link #save}.
+     */
+    public static ProfileSnapshot reload(Context context) {
+        return store(context).replace(read(context));
+    }
+
+    private static void write(Context context, ProfileSnapshot prev, ProfileSnapshot next) {
+        write(context, Constants.LANGUAGE, prev.getLanguage(), next.getLanguage());
+        write(context, Constants.FIRST_NAME, prev.getFirstName(), next.getFirstName());
+        write(context, Constants.FATHER_NAME, prev.getFatherName(), next.getFatherName());
+        write(context, Constants.LAST_NAME, prev.getLastName(), next.getLastName());
+        write(context, Constants.DATE_OF_BIRTH, prev.getDateOfBirth(), next.getDateOfBirth());
+        write(context, Constants.PARTNER_DATE_OF_BIRTH, prev.getPartnerDateOfBirth(), next.getPartnerDateOfBirth());
+        write(context, Constants.WEDDING_DAY, prev.getWeddingDay(), next.getWeddingDay());
+    }
+
+    private static void write(Context context, String key, String prev, String next) {
+        if (!Objects.equals(prev, next)) {
+            AppPreferences.saveValue(context, key, next);
+        }
+    }
+}
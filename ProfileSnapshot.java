@@ -0,0 +1,175 @@
+package numerology.dailymistika.ru.calc;
+
+import java.util.Objects;
+
+/**
+ * Immutable copy of every preference the calculator reads, see {@code ProfilePreferences}. A chart computed from one snapshot
+ * never mixes old and new inputs, and a snapshot can be shared between threads freely.
+ * Edits produce a new snapshot (copy-on-write) instead of mutating this one.
+ */
+public final class ProfileSnapshot {
+
+    private final long version;
+    private final String language;
+    private final String appLanguage;
+    private final String firstName;
+    private final String fatherName;
+    private final String lastName;
+    private final String dateOfBirth;
+    private final String partnerDateOfBirth;
+    private final String weddingDay;
+    private volatile NameForms nameForms;
+
+    private ProfileSnapshot(long version, String language, String appLanguage, String firstName, String fatherName,
+                            String lastName, String dateOfBirth, String partnerDateOfBirth, String weddingDay) {
+        this.version = version;
+        this.language = language;
+        this.appLanguage = appLanguage;
+        this.firstName = firstName;
+        this.fatherName = fatherName;
+        this.lastName = lastName;
+        this.dateOfBirth = dateOfBirth;
+        this.partnerDateOfBirth = partnerDateOfBirth;
+        this.weddingDay = weddingDay;
+    }
+
+    /**
+     * A profile whose app language is its profile language.
+     */
+    public static ProfileSnapshot of(String language, String firstName, String fatherName, String lastName,
+                                     String dateOfBirth, String partnerDateOfBirth, String weddingDay) {
+        return of(language, language, firstName, fatherName, lastName, dateOfBirth, partnerDateOfBirth, weddingDay);
+    }
+
+    public static ProfileSnapshot of(String language, String appLanguage, String firstName, String fatherName, String lastName,
+                                     String dateOfBirth, String partnerDateOfBirth, String weddingDay) {
+        return new ProfileSnapshot(0, language, appLanguage, firstName, fatherName, lastName, dateOfBirth, partnerDateOfBirth, weddingDay);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public String getLanguage() {
+        return language;
+    }
+
+    /**
+     * Language of {@code LanguageController}, which decides the German ü/ä letter values.
+     * It can differ from {@link #getLanguage()}, the controller falls back to its own default.
+     */
+    public String getAppLanguage() {
+        return appLanguage;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public String getFatherName() {
+        return fatherName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public String getDateOfBirth() {
+        return dateOfBirth;
+    }
+
+    public String getPartnerDateOfBirth() {
+        return partnerDateOfBirth;
+    }
+
+    public String getWeddingDay() {
+        return weddingDay;
+    }
+
+    /**
+     * Normalized names, computed on first use. Two threads may both compute them, the result is the same.
+     */
+    NameForms getNameForms() {
+        NameForms forms = nameForms;
+        if (forms == null) {
+            forms = NameForms.of(this);
+            nameForms = forms;
+        }
+        return forms;
+    }
+
+    /**
+     * Hands the normalized names over to a copy whose names and language did not change.
+     */
+    private ProfileSnapshot keepNameForms(ProfileSnapshot next) {
+        next.nameForms = nameForms;
+        return next;
+    }
+
+    /**
+     * This snapshot as the version after {@code prev}. When the names and language did not change, it shares
+     * the normalized names {@code prev} already computed, also when it was read again from the preferences.
+     */
+    ProfileSnapshot following(ProfileSnapshot prev) {
+        ProfileSnapshot next = withVersion(prev.version + 1);
+        NameForms forms = prev.nameForms;
+        if (next.nameForms == null && forms != null && Objects.equals(language, prev.language)
+                && Objects.equals(firstName, prev.firstName) && Objects.equals(fatherName, prev.fatherName)
+                && Objects.equals(lastName, prev.lastName)) {
+            next.nameForms = forms;
+        }
+        return next;
+    }
+
+    public ProfileSnapshot withVersion(long version) {
+        return keepNameForms(new ProfileSnapshot(version, language, appLanguage, firstName, fatherName, lastName, dateOfBirth, partnerDateOfBirth, weddingDay));
+    }
+
+    public ProfileSnapshot withLanguage(String language) {
+        return new ProfileSnapshot(version, language, appLanguage, firstName, fatherName, lastName, dateOfBirth, partnerDateOfBirth, weddingDay);
+    }
+
+    public ProfileSnapshot withAppLanguage(String appLanguage) {
+        return keepNameForms(new ProfileSnapshot(version, language, appLanguage, firstName, fatherName, lastName, dateOfBirth, partnerDateOfBirth, weddingDay));
+    }
+
+    public ProfileSnapshot withName(String firstName, String fatherName, String lastName) {
+        return new ProfileSnapshot(version, language, appLanguage, firstName, fatherName, lastName, dateOfBirth, partnerDateOfBirth, weddingDay);
+    }
+
+    public ProfileSnapshot withDateOfBirth(String dateOfBirth) {
+        return keepNameForms(new ProfileSnapshot(version, language, appLanguage, firstName, fatherName, lastName, dateOfBirth, partnerDateOfBirth, weddingDay));
+    }
+
+    public ProfileSnapshot withPartnerDateOfBirth(String partnerDateOfBirth) {
+        return keepNameForms(new ProfileSnapshot(version, language, appLanguage, firstName, fatherName, lastName, dateOfBirth, partnerDateOfBirth, weddingDay));
+    }
+
+    public ProfileSnapshot withWeddingDay(String weddingDay) {
+        return keepNameForms(new ProfileSnapshot(version, language, appLanguage, firstName, fatherName, lastName, dateOfBirth, partnerDateOfBirth, weddingDay));
+    }
+
+    /**
+     * Two snapshots are equal when they hold the same inputs, whatever their version,
+     * so a snapshot can be used as a cache key for computed charts.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ProfileSnapshot)) return false;
+        ProfileSnapshot that = (ProfileSnapshot) o;
+        return Objects.equals(language, that.language)
+                && Objects.equals(appLanguage, that.appLanguage)
+                && Objects.equals(firstName, that.firstName)
+                && Objects.equals(fatherName, that.fatherName)
+                && Objects.equals(lastName, that.lastName)
+                && Objects.equals(dateOfBirth, that.dateOfBirth)
+                && Objects.equals(partnerDateOfBirth, that.partnerDateOfBirth)
+                && Objects.equals(weddingDay, that.weddingDay);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(language, appLanguage, firstName, fatherName, lastName, dateOfBirth, partnerDateOfBirth, weddingDay);
+    }
+}
@@ -0,0 +1,61 @@
+package numerology.dailymistika.ru.calc;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.UnaryOperator;
+
+/**
+ * Holds the current {@link ProfileSnapshot}. Every edit publishes a new snapshot with the next
+ * version number, so readers always see either the old inputs or the new ones, never a mix.
+ * Versions with the same names share their normalized names, so they are built once per name edit.
+ */
+public final class ProfileStore {
+
+    private final AtomicReference<ProfileSnapshot> current;
+
+    public ProfileStore(ProfileSnapshot initial) {
+        current = new AtomicReference<>(initial);
+    }
+
+    public ProfileSnapshot snapshot() {
+        return current.get();
+    }
+
+    /**
+     * Applies {@code edit} to the latest snapshot and publishes the result. The edit may be
+     * retried when another thread publishes first, so it must not have side effects.
+     */
+    public ProfileSnapshot update(UnaryOperator<ProfileSnapshot> edit) {
+        while (true) {
+            ProfileSnapshot prev = current.get();
+            ProfileSnapshot next = edit.apply(prev).following(prev);
+            if (current.compareAndSet(prev, next)) {
+                return next;
+            }
+        }
+    }
+
+    /**
+     * Publishes {@code edit} like {@link #update} and hands the snapshots before and after it to {@code persist}.
+     * Saves are serialized, so they are persisted in the order of their versions; readers never wait and see
+     * the edit as soon as it is published. A store that is saved should only be edited through this method
+     * and {@link #replace}, edits of {@link #update} are not persisted.
+     */
+    public synchronized ProfileSnapshot save(UnaryOperator<ProfileSnapshot> edit, BiConsumer<ProfileSnapshot, ProfileSnapshot> persist) {
+        while (true) {
+            ProfileSnapshot prev = current.get();
+            ProfileSnapshot next = edit.apply(prev).following(prev);
+            if (current.compareAndSet(prev, next)) {
+                persist.accept(prev, next);
+                return next;
+            }
+        }
+    }
+
+    /**
+     * Publishes {@code fresh} as the next version, for inputs read again from their source.
+     */
+    public synchronized ProfileSnapshot replace(ProfileSnapshot fresh) {
+        return update(prev -> fresh);
+    }
+}
@@ -0,0 +1,209 @@
+package numerology.dailymistika.ru.calc;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Stress check of the snapshot publication: writers save edits of the profile with {@link ProfileStore#save},
+ * the path {@code ProfilePreferences.save} takes in the app, into a map standing in for the preferences.
+ * Meanwhile readers take snapshots like the {@code NumbersCalculator} entry points and ask a
+ * {@link ChartEvaluator} for the current chart. Every snapshot a reader sees has to be the one published with
+ * its version, every chart has to equal the chart of that snapshot (no numbers of another version mixed in),
+ * the versions a reader sees never go back, concurrent edits of different fields must not lose each other,
+ * and the preferences have to end up holding the last version.
+ *
+ * <pre>
+ * java numerology.dailymistika.ru.calc.ProfileStoreStressCheck [edits per writer]
+ * </pre>
+ *
+ * Exits with an {@link AssertionError} on the first violation.
+ */
+public final class ProfileStoreStressCheck {
+
+    private static final int WRITERS = 4;
+    private static final int READERS = 4;
+
+    private static final ProfileSnapshot[] PROFILES = {
+            ProfileSnapshot.of("ru", "Иван", "Иванович", "Иванов", "24/9/1990", "", ""),
+            ProfileSnapshot.of("ru", "Мария", "Петровна", "Смирнова", "1/0/1985", "", ""),
+            ProfileSnapshot.of("en", "John", "", "Doe", "15/4/1985", "", ""),
+            ProfileSnapshot.of("en", "Elizabeth", "Ann", "Zimmerman", "29/1/2000", "", ""),
+            ProfileSnapshot.of("de", "Jürgen", "", "Müller", "3/1/1979", "", ""),
+            ProfileSnapshot.of("de", "en", "Bärbel", "Maria", "Schäfer", "31/11/1964", "", ""),
+            ProfileSnapshot.of("es", "José", "", "García", "7/6/2011", "", ""),
+            ProfileSnapshot.of("fr", "Hélène", "Marie", "Lefèvre", "12/2/1951", "", "")};
+
+    private final ProfileStore store = new ProfileStore(PROFILES[0]);
+    private final Map<Long, ProfileSnapshot> published = new ConcurrentHashMap<>();
+    private final Map<Long, int[]> observed = new ConcurrentHashMap<>();
+    private final Map<Long, ProfileSnapshot> read = new ConcurrentHashMap<>();
+    private final Map<String, String> preferences = new ConcurrentHashMap<>();
+
+    private ProfileStoreStressCheck() {
+        published.put(PROFILES[0].getVersion(), PROFILES[0]);
+        // against a profile without any value every value of the first one is written
+        persist(ProfileSnapshot.of(null, null, null, null, null, null, null, null), PROFILES[0]);
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int edits = args.length > 0 ? Integer.parseInt(args[0]) : 5_000;
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            ProfileStoreStressCheck wholeProfiles = new ProfileStoreStressCheck();
+            wholeProfiles.run(executor, edits, false);
+            System.out.println("whole profile edits: " + wholeProfiles.summary());
+            ProfileStoreStressCheck fieldEdits = new ProfileStoreStressCheck();
+            fieldEdits.run(executor, edits, true);
+            System.out.println("single field edits: " + fieldEdits.summary());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private String summary() {
+        return published.size() + " versions published, " + read.size() + " of them read and " + observed.size()
+                + " evaluated by readers, all consistent";
+    }
+
+    /**
+     * @param fieldEdits whether the writers edit single fields (names, date of birth, language) instead of
+     *                   replacing the whole profile
+     */
+    private void run(ExecutorService executor, int edits, boolean fieldEdits) throws InterruptedException {
+        ChartEvaluator evaluator = new ChartEvaluator(store, executor);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        CountDownLatch writersDone = new CountDownLatch(WRITERS);
+        CountDownLatch readersDone = new CountDownLatch(READERS);
+        Throwable[] failure = new Throwable[1];
+        ProfileSnapshot[] lastEdit = new ProfileSnapshot[WRITERS];
+        for (int w = 0; w < WRITERS; w++) {
+            int writer = w;
+            new Thread(() -> {
+                try {
+                    for (int i = 0; i < edits; i++) {
+                        ProfileSnapshot source = PROFILES[(writer + i * 3) % PROFILES.length];
+                        ProfileSnapshot next = store.save(p -> fieldEdits ? editField(p, source, writer) : source, this::persist);
+                        if (published.put(next.getVersion(), next) != null) {
+                            throw new AssertionError("version " + next.getVersion() + " published twice");
+                        }
+                        lastEdit[writer] = source;
+                        // a screen evaluates after an edit too, and it gives the readers time to interleave
+                        ChartEvaluator.evaluate(next);
+                    }
+                } catch (Throwable t) {
+                    failure[0] = t;
+                } finally {
+                    writersDone.countDown();
+                }
+            }, "stress-writer-" + w).start();
+        }
+        for (int r = 0; r < READERS; r++) {
+            new Thread(() -> {
+                try {
+                    long seen = -1;
+                    while (writing.get()) {
+                        ProfileSnapshot snapshot = store.snapshot();
+                        ProfileSnapshot before = read.putIfAbsent(snapshot.getVersion(), snapshot);
+                        if (before != null && before != snapshot) {
+                            throw new AssertionError("two different snapshots for version " + snapshot.getVersion());
+                        }
+                        Chart chart = evaluator.current();
+                        if (chart.getVersion() < seen) {
+                            throw new AssertionError("version went back from " + seen + " to " + chart.getVersion());
+                        }
+                        seen = chart.getVersion();
+                        int[] readings = GoldenDataset.readings(chart);
+                        int[] seenReadings = observed.putIfAbsent(chart.getVersion(), readings);
+                        if (seenReadings != null && !Arrays.equals(seenReadings, readings)) {
+                            throw new AssertionError("two different charts for version " + chart.getVersion());
+                        }
+                    }
+                } catch (Throwable t) {
+                    failure[0] = t;
+                } finally {
+                    readersDone.countDown();
+                }
+            }, "stress-reader-" + r).start();
+        }
+        writersDone.await();
+        writing.set(false);
+        readersDone.await();
+        if (failure[0] != null) {
+            throw new AssertionError("stress thread failed", failure[0]);
+        }
+
+        long expectedVersion = (long) WRITERS * edits;
+        ProfileSnapshot last = store.snapshot();
+        check(last.getVersion() == expectedVersion, "last version " + last.getVersion() + ", expected " + expectedVersion);
+        check(published.size() == expectedVersion + 1, published.size() + " versions published, expected " + (expectedVersion + 1));
+        if (fieldEdits) {
+            // each writer owns one field, so the last edit of every writer has to survive
+            for (int w = 0; w < WRITERS; w++) {
+                check(editField(last, lastEdit[w], w).equals(last), "edit of writer " + w + " was lost");
+            }
+        }
+        check(readPreferences().equals(last), "preferences hold " + readPreferences().getFirstName() + " "
+                + readPreferences().getLastName() + " " + readPreferences().getDateOfBirth() + ", not the last version");
+        for (Map.Entry<Long, ProfileSnapshot> entry : read.entrySet()) {
+            check(published.get(entry.getKey()) == entry.getValue(), "snapshot of version " + entry.getKey() + " was never published");
+        }
+        for (Map.Entry<Long, int[]> entry : observed.entrySet()) {
+            ProfileSnapshot profile = published.get(entry.getKey());
+            check(profile != null, "chart of unpublished version " + entry.getKey());
+            int[] expected = GoldenDataset.readings(ChartEvaluator.evaluate(profile));
+            check(Arrays.equals(expected, entry.getValue()), "chart of version " + entry.getKey() + " mixes inputs: "
+                    + Arrays.toString(entry.getValue()) + ", expected " + Arrays.toString(expected));
+        }
+    }
+
+    /**
+     * Writes the changed values like {@code ProfilePreferences.save} does; the store calls it in version order.
+     */
+    private void persist(ProfileSnapshot prev, ProfileSnapshot next) {
+        persist("language", prev.getLanguage(), next.getLanguage());
+        persist("appLanguage", prev.getAppLanguage(), next.getAppLanguage());
+        persist("firstName", prev.getFirstName(), next.getFirstName());
+        persist("fatherName", prev.getFatherName(), next.getFatherName());
+        persist("lastName", prev.getLastName(), next.getLastName());
+        persist("dateOfBirth", prev.getDateOfBirth(), next.getDateOfBirth());
+        persist("partnerDateOfBirth", prev.getPartnerDateOfBirth(), next.getPartnerDateOfBirth());
+        persist("weddingDay", prev.getWeddingDay(), next.getWeddingDay());
+    }
+
+    private void persist(String key, String prev, String next) {
+        if (!Objects.equals(prev, next)) {
+            preferences.put(key, next);
+        }
+    }
+
+    private ProfileSnapshot readPreferences() {
+        return ProfileSnapshot.of(preferences.get("language"), preferences.get("appLanguage"), preferences.get("firstName"),
+                preferences.get("fatherName"), preferences.get("lastName"), preferences.get("dateOfBirth"),
+                preferences.get("partnerDateOfBirth"), preferences.get("weddingDay"));
+    }
+
+    private static ProfileSnapshot editField(ProfileSnapshot profile, ProfileSnapshot source, int writer) {
+        switch (writer) {
+            case 0:
+                return profile.withName(source.getFirstName(), profile.getFatherName(), profile.getLastName());
+            case 1:
+                return profile.withName(profile.getFirstName(), source.getFatherName(), source.getLastName());
+            case 2:
+                return profile.withDateOfBirth(source.getDateOfBirth());
+            default:
+                return profile.withLanguage(source.getLanguage()).withAppLanguage(source.getAppLanguage());
+        }
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+}
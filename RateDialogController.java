@@ -1,7 +1,9 @@
 package numerology.dailymistika.ru.dialogs;
 
+import android.app.Activity;
 import android.content.ActivityNotFoundException;
 import android.content.Context;
+import android.content.ContextWrapper;
 import android.content.Intent;
 import android.net.Uri;
 
@@ -9,19 +11,99 @@ import androidx.core.content.ContextCompat;
 
 import com.google.android.material.dialog.MaterialAlertDialogBuilder;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.UnaryOperator;
+
+import numerology.dailymistika.ru.BuildConfig;
 import numerology.dailymistika.ru.R;
 import numerology.dailymistika.ru.metadata.Constants;
 import numerology.dailymistika.ru.misc.AppPreferences;
 
 public class RateDialogController {
 
+    private static final String RATE_DONE_VERSION = "rate_done_version";
+    private static final String RATE_LATER_UNTIL_MINUTES = "rate_later_until_minutes";
+
+    private static final RateDialogPolicy POLICY = new RateDialogPolicy();
+    // decisions and preference writes run here, so a tracked click only enqueues a task
+    private static final Executor DECISIONS = Executors.newSingleThreadExecutor();
+    // confined to DECISIONS, loaded from the preferences on first use
+    private static RateDialogPolicy.RateState state;
+    // confined to DECISIONS, set while a dialog is posted to the main thread and not yet shown
+    private static boolean offered;
+
     public static void showRateDialog(Context context) {
-        int clickNumber = AppPreferences.getInt(context, Constants.SHOW_RATE_DIALOG);
-        if (clickNumber > 8 && !AppPreferences.getBoolean(context,Constants.RATE_STATE)) {
-            AppPreferences.saveInt(context, Constants.SHOW_RATE_DIALOG, 0);
-            showLikeAppDialog(context);
-        }else {
-            AppPreferences.saveInt(context, Constants.SHOW_RATE_DIALOG, clickNumber + 1);
+        Context appContext = context.getApplicationContext();
+        long now = System.currentTimeMillis();
+        DECISIONS.execute(() -> {
+            if (offered) {
+                return;
+            }
+            RateDialogPolicy.Outcome outcome = POLICY.onClick(getState(appContext), now, BuildConfig.VERSION_CODE);
+            setState(appContext, outcome.getState());
+            if (outcome.isShow()) {
+                offered = true;
+                ContextCompat.getMainExecutor(context).execute(() -> {
+                    // the activity may have been closed while the decision was queued, the click count
+                    // then stays as it is and the next click asks again
+                    boolean shown = isAlive(context);
+                    if (shown) {
+                        showLikeAppDialog(context);
+                    }
+                    DECISIONS.execute(() -> {
+                        offered = false;
+                        if (shown) {
+                            setState(appContext, POLICY.onShown(getState(appContext)));
+                        }
+                    });
+                });
+            }
+        });
+    }
+
+    private static boolean isAlive(Context context) {
+        while (context instanceof ContextWrapper) {
+            if (context instanceof Activity) {
+                Activity activity = (Activity) context;
+                return !activity.isFinishing() && !activity.isDestroyed();
+            }
+            context = ((ContextWrapper) context).getBaseContext();
+        }
+        return false;
+    }
+
+    private static void update(Context context, UnaryOperator<RateDialogPolicy.RateState> change) {
+        Context appContext = context.getApplicationContext();
+        DECISIONS.execute(() -> setState(appContext, change.apply(getState(appContext))));
+    }
+
+    private static RateDialogPolicy.RateState getState(Context context) {
+        if (state == null) {
+            state = new RateDialogPolicy.RateState(
+                    AppPreferences.getInt(context, Constants.SHOW_RATE_DIALOG),
+                    AppPreferences.getBoolean(context, Constants.RATE_STATE),
+                    AppPreferences.getInt(context, RATE_DONE_VERSION),
+                    AppPreferences.getInt(context, RATE_LATER_UNTIL_MINUTES) * 60_000L);
+        }
+        return state;
+    }
+
+    private static void setState(Context context, RateDialogPolicy.RateState next) {
+        RateDialogPolicy.RateState prev = state;
+        state = next;
+        if (prev.getClicks() != next.getClicks()) {
+            AppPreferences.saveInt(context, Constants.SHOW_RATE_DIALOG, next.getClicks());
+        }
+        if (prev.isDone() != next.isDone()) {
+            AppPreferences.saveBoolean(context, Constants.RATE_STATE, next.isDone());
+        }
+        if (prev.getDoneVersion() != next.getDoneVersion()) {
+            AppPreferences.saveInt(context, RATE_DONE_VERSION, next.getDoneVersion());
+        }
+        if (prev.getLaterUntilMillis() != next.getLaterUntilMillis()) {
+            // stored in whole minutes, rounded up so the cooldown never gets shorter
+            AppPreferences.saveInt(context, RATE_LATER_UNTIL_MINUTES, (int) ((next.getLaterUntilMillis() + 59_999L) / 60_000L));
         }
     }
 
@@ -32,7 +114,7 @@ public class RateDialogController {
                 .setPositiveButton(R.string.yes, (dialogInterface, i) -> {
                     showRate(context);
                 })
-                .setNegativeButton(R.string.rta_dialog_no, (dialogInterface, i) -> AppPreferences.saveBoolean(context, Constants.RATE_STATE,true))
+                .setNegativeButton(R.string.rta_dialog_no, (dialogInterface, i) -> update(context, s -> POLICY.onDeclined(s, BuildConfig.VERSION_CODE)))
                 .setBackground(ContextCompat.getDrawable(context, R.drawable.dilog_shape))
                 .setIcon(R.drawable.ic_rate_us)
                 .show();
@@ -42,7 +124,7 @@ public class RateDialogController {
                 .setMessage(R.string.rta_dialog_message)
                 .setTitle(R.string.rta_dialog_title)
                 .setPositiveButton(R.string.rta_dialog_ok, (dialogInterface, i) -> {
-                    AppPreferences.saveBoolean(context, Constants.RATE_STATE,true);
+                    update(context, s -> POLICY.onRated(s, BuildConfig.VERSION_CODE));
                     String packagename = context.getPackageName();
                     Uri uri = Uri.parse("market://details?id="+packagename);
                     Intent goToMarket = new Intent(Intent.ACTION_VIEW, uri);
@@ -57,11 +139,10 @@ public class RateDialogController {
                                 Uri.parse("http://play.google.com/store/apps/details?id="+packagename)));
                     }
                 })
-                .setNegativeButton(R.string.rta_dialog_no, (dialogInterface, i) -> AppPreferences.saveBoolean(context, Constants.RATE_STATE,true))
-                .setNeutralButton(R.string.rta_dialog_cancel, (dialogInterface, i) -> AppPreferences.saveBoolean(context, Constants.RATE_STATE,false))
+                .setNegativeButton(R.string.rta_dialog_no, (dialogInterface, i) -> update(context, s -> POLICY.onDeclined(s, BuildConfig.VERSION_CODE)))
+                .setNeutralButton(R.string.rta_dialog_cancel, (dialogInterface, i) -> update(context, s -> POLICY.onLater(s, System.currentTimeMillis())))
                 .setBackground(ContextCompat.getDrawable(context, R.drawable.dilog_shape))
                 .setIcon(R.drawable.ic_rate_us)
                 .show();
     }
 }
-
@@ -0,0 +1,120 @@
+package numerology.dailymistika.ru.dialogs;
+
+/**
+ * Decides when to ask for a rating. Pure Java without Android dependencies: it works on an in-memory
+ * {@link RateState} and returns the next state, the caller persists it, shows the dialog and
+ * reports it with {@link #onShown} once it is on screen.
+ *
+ * The defaults reproduce the original behaviour: the dialog shows on every tenth tracked click until the
+ * user rated the app or declined, "later" asks again after the next ten clicks.
+ */
+public final class RateDialogPolicy {
+
+    public static final int DEFAULT_CLICKS_BEFORE_SHOW = 9;
+
+    private final int clicksBeforeShow;
+    private final long laterCooldownMillis;
+    private final boolean askAgainOnNewVersion;
+
+    public RateDialogPolicy() {
+        this(DEFAULT_CLICKS_BEFORE_SHOW, 0, false);
+    }
+
+    /**
+     * @param clicksBeforeShow     tracked clicks that have to pass before the dialog shows
+     * @param laterCooldownMillis  minimum time between "later" and the next dialog
+     * @param askAgainOnNewVersion whether a user who rated or declined is asked again after an update
+     */
+    public RateDialogPolicy(int clicksBeforeShow, long laterCooldownMillis, boolean askAgainOnNewVersion) {
+        this.clicksBeforeShow = clicksBeforeShow;
+        this.laterCooldownMillis = laterCooldownMillis;
+        this.askAgainOnNewVersion = askAgainOnNewVersion;
+    }
+
+    public Outcome onClick(RateState state, long nowMillis, int appVersion) {
+        if (state.isDone()) {
+            if (!askAgainOnNewVersion || appVersion <= state.getDoneVersion()) {
+                return new Outcome(state, false);
+            }
+            state = new RateState(0, false, state.getDoneVersion(), 0);
+        }
+        if (state.getClicks() >= clicksBeforeShow && nowMillis >= state.getLaterUntilMillis()) {
+            return new Outcome(state, true);
+        }
+        return new Outcome(new RateState(state.getClicks() + 1, false, state.getDoneVersion(), state.getLaterUntilMillis()), false);
+    }
+
+    /**
+     * The dialog an {@link Outcome} asked for is on screen: the click count starts over. Until then the count
+     * stays where it is, so the next click asks again when the dialog could not be shown.
+     */
+    public RateState onShown(RateState state) {
+        return new RateState(0, state.isDone(), state.getDoneVersion(), state.getLaterUntilMillis());
+    }
+
+    public RateState onRated(RateState state, int appVersion) {
+        return new RateState(state.getClicks(), true, appVersion, state.getLaterUntilMillis());
+    }
+
+    public RateState onDeclined(RateState state, int appVersion) {
+        return new RateState(state.getClicks(), true, appVersion, state.getLaterUntilMillis());
+    }
+
+    public RateState onLater(RateState state, long nowMillis) {
+        return new RateState(state.getClicks(), false, state.getDoneVersion(), nowMillis + laterCooldownMillis);
+    }
+
+    public static final class RateState {
+        private final int clicks;
+        private final boolean done;
+        private final int doneVersion;
+        private final long laterUntilMillis;
+
+        /**
+         * @param clicks           tracked clicks since the dialog was last shown
+         * @param done             the user rated the app or declined
+         * @param doneVersion      app version in which they did, 0 when unknown
+         * @param laterUntilMillis no dialog before this time after "later"
+         */
+        public RateState(int clicks, boolean done, int doneVersion, long laterUntilMillis) {
+            this.clicks = clicks;
+            this.done = done;
+            this.doneVersion = doneVersion;
+            this.laterUntilMillis = laterUntilMillis;
+        }
+
+        public int getClicks() {
+            return clicks;
+        }
+
+        public boolean isDone() {
+            return done;
+        }
+
+        public int getDoneVersion() {
+            return doneVersion;
+        }
+
+        public long getLaterUntilMillis() {
+            return laterUntilMillis;
+        }
+    }
+
+    public static final class Outcome {
+        private final RateState state;
+        private final boolean show;
+
+        Outcome(RateState state, boolean show) {
+            this.state = state;
+            this.show = show;
+        }
+
+        public RateState getState() {
+            return state;
+        }
+
+        public boolean isShow() {
+            return show;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package numerology.dailymistika.ru.server;
+
+import java.util.Iterator;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import numerology.dailymistika.ru.calc.Chart;
+import numerology.dailymistika.ru.calc.ChartEvaluator;
+import numerology.dailymistika.ru.calc.ProfileSnapshot;
+
+/**
+ * Charts of arbitrary profiles keyed by their inputs ({@link ProfileSnapshot#equals} ignores the version).
+ * A chart holds the personal day of the day it was computed, so entries from an earlier day are recomputed.
+ * When the cache is full an arbitrary eighth of it is dropped, which is enough for a cache in front of a
+ * calculator that takes microseconds and keeps lookups lock-free.
+ */
+public final class ChartCache {
+
+    private static final long DAY_MILLIS = 24L * 60 * 60 * 1000;
+
+    private final int maxSize;
+    private final ConcurrentHashMap<ProfileSnapshot, Entry> entries = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public ChartCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public Chart get(ProfileSnapshot profile) {
+        long today = today();
+        Entry entry = entries.get(profile);
+        if (entry != null && entry.day == today) {
+            hits.increment();
+            return entry.chart;
+        }
+        misses.increment();
+        Chart chart = ChartEvaluator.evaluate(profile);
+        if (entries.size() >= maxSize) {
+            evict();
+        }
+        entries.put(profile, new Entry(chart, today));
+        return chart;
+    }
+
+    private void evict() {
+        int toRemove = Math.max(1, maxSize / 8);
+        Iterator<ProfileSnapshot> it = entries.keySet().iterator();
+        while (toRemove-- > 0 && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    private static long today() {
+        long now = System.currentTimeMillis();
+        return Math.floorDiv(now + TimeZone.getDefault().getOffset(now), DAY_MILLIS);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    private static final class Entry {
+        final Chart chart;
+        final long day;
+
+        Entry(Chart chart, long day) {
+            this.chart = chart;
+            this.day = day;
+        }
+    }
+}
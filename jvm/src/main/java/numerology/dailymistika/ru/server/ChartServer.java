@@ -0,0 +1,499 @@
+package numerology.dailymistika.ru.server;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import numerology.dailymistika.ru.calc.CalculatorWarmup;
+import numerology.dailymistika.ru.calc.Chart;
+import numerology.dailymistika.ru.calc.ProfileSnapshot;
+
+/**
+ * Embeddable HTTP/1.1 server computing charts for arbitrary profiles with the app's own calculator, so
+ * backend and analytics jobs do not need a reimplementation. Plain JVM: it only reaches the Android-free
+ * calculator core ({@link numerology.dailymistika.ru.calc.ProfileCalculator} and the letter data).
+ *
+ * <pre>
+ * GET  /chart?lang=ru&amp;first=...&amp;father=...&amp;last=...&amp;dob=24/9/1990   one chart as JSON
+ * POST /charts   one profile per line: lang TAB first TAB father TAB last TAB dob   one JSON chart per line
+ * GET  /metrics  counters, charts per second and latency percentiles
+ * </pre>
+ *
+ * Dates use the app's format: day/month/year with a 0-based month. Connections are kept alive and requests
+ * on one connection are answered in order, so clients may pipeline; responses are flushed once no further
+ * request is already buffered. Every connection gets its own virtual thread on Java 21+, a platform thread before;
+ * a connection without a byte for 30 seconds is closed.
+ * Charts come from a {@link ChartCache}.
+ */
+public final class ChartServer implements Closeable {
+
+    private static final int MAX_LINE = 8 * 1024;
+    private static final int MAX_BODY = 16 * 1024 * 1024;
+    // idle keep-alive connections and stalled clients are dropped after this long without a byte
+    private static final int READ_TIMEOUT_MILLIS = 30_000;
+
+    private final ChartCache cache;
+    private final ServerMetrics metrics = new ServerMetrics();
+    private final ExecutorService connections = newConnectionExecutor();
+    private ServerSocket serverSocket;
+
+    public ChartServer(ChartCache cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * <pre>
+     * java numerology.dailymistika.ru.server.ChartServer [port] [cache size] [bind address]
+     * </pre>
+     * Listens on localhost unless a bind address is given; runs until the process is stopped.
+     * The calculator is warmed up meanwhile, see {@link CalculatorWarmup}.
+     */
+    public static void main(String[] args) throws IOException {
+        CalculatorWarmup.start(Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "calculator-warmup");
+            thread.setDaemon(true);
+            return thread;
+        }), new WarmupLog());
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 8080;
+        int cacheSize = args.length > 1 ? Integer.parseInt(args[1]) : 100_000;
+        ChartServer server = new ChartServer(new ChartCache(cacheSize));
+        if (args.length > 2) {
+            server.start(new InetSocketAddress(InetAddress.getByName(args[2]), port));
+        } else {
+            server.start(port);
+        }
+        System.out.println("Chart server listening on " + server.serverSocket.getLocalSocketAddress());
+    }
+
+    private static ExecutorService newConnectionExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "chart-connection");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * Starts listening on localhost; port 0 picks a free one, see {@link #getPort()}.
+     */
+    public void start(int port) throws IOException {
+        start(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+    }
+
+    public synchronized void start(InetSocketAddress address) throws IOException {
+        if (serverSocket != null) {
+            throw new IllegalStateException("Chart server already started");
+        }
+        serverSocket = new ServerSocket();
+        serverSocket.bind(address, 1024);
+        // not a daemon: a started server keeps the JVM running until close()
+        new Thread(this::acceptLoop, "chart-acceptor").start();
+    }
+
+    public synchronized int getPort() {
+        if (serverSocket == null) {
+            throw new IllegalStateException("Chart server not started");
+        }
+        return serverSocket.getLocalPort();
+    }
+
+    public ServerMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Stops accepting and drops the open connections; a server that was never started just releases its executor.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        connections.shutdownNow();
+        if (serverSocket != null) {
+            serverSocket.close();
+        }
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                socket.setSoTimeout(READ_TIMEOUT_MILLIS);
+                metrics.onConnection();
+                connections.execute(() -> serve(socket));
+            } catch (IOException e) {
+                // closed while accepting, the loop condition ends it
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (Socket s = socket) {
+            InputStream in = new BufferedInputStream(s.getInputStream(), 16 * 1024);
+            OutputStream out = new BufferedOutputStream(s.getOutputStream(), 16 * 1024);
+            while (true) {
+                Request request;
+                try {
+                    request = Request.read(in);
+                } catch (BadRequestException e) {
+                    writeResponse(out, e.status, "application/json", errorJson(e.getMessage()).getBytes(StandardCharsets.UTF_8), false);
+                    out.flush();
+                    return;
+                }
+                if (request == null) {
+                    out.flush();
+                    return;
+                }
+                boolean keepAlive = request.keepAlive();
+                handle(request, out, keepAlive);
+                if (!keepAlive) {
+                    out.flush();
+                    return;
+                }
+                // pipelined requests already buffered are answered before anything is flushed
+                if (in.available() == 0) {
+                    out.flush();
+                }
+            }
+        } catch (IOException e) {
+            // client went away or timed out, nothing to answer
+        }
+    }
+
+    private void handle(Request request, OutputStream out, boolean keepAlive) throws IOException {
+        long begin = System.nanoTime();
+        int charts = 0;
+        boolean error = false;
+        int status = 200;
+        String contentType = "application/json";
+        byte[] body;
+        if (request.path.equals("/chart") && request.method.equals("GET")) {
+            StringBuilder sb = new StringBuilder(1024);
+            try {
+                Map<String, String> q = request.query();
+                writeChart(sb, cache.get(profile(q.get("lang"), q.get("first"), q.get("father"), q.get("last"), q.get("dob"))));
+                charts = 1;
+            } catch (RuntimeException e) {
+                sb.setLength(0);
+                sb.append(errorJson(e));
+                status = 400;
+                error = true;
+            }
+            body = sb.toString().getBytes(StandardCharsets.UTF_8);
+        } else if (request.path.equals("/charts") && request.method.equals("POST")) {
+            StringBuilder sb = new StringBuilder(request.body.length * 8);
+            String[] lines = new String(request.body, StandardCharsets.UTF_8).split("\n");
+            for (String line : lines) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                String[] f = line.split("\t", -1);
+                try {
+                    if (f.length != 5) {
+                        throw new IllegalArgumentException("expected 5 tab separated fields, got " + f.length);
+                    }
+                    writeChart(sb, cache.get(profile(f[0], f[1], f[2], f[3], f[4].trim())));
+                    charts++;
+                } catch (RuntimeException e) {
+                    sb.append(errorJson(e));
+                    error = true;
+                }
+                sb.append('\n');
+            }
+            contentType = "application/x-ndjson";
+            body = sb.toString().getBytes(StandardCharsets.UTF_8);
+        } else if (request.path.equals("/metrics") && request.method.equals("GET")) {
+            body = metricsJson().getBytes(StandardCharsets.UTF_8);
+        } else {
+            status = 404;
+            error = true;
+            body = errorJson("no route " + request.method + " " + request.path).getBytes(StandardCharsets.UTF_8);
+        }
+        writeResponse(out, status, contentType, body, keepAlive);
+        metrics.onRequest(System.nanoTime() - begin, charts, error);
+        if (charts > 0) {
+            CalculatorWarmup.reportFirstReading();
+        }
+    }
+
+    private static ProfileSnapshot profile(String language, String firstName, String fatherName, String lastName, String dob) {
+        if (firstName == null || lastName == null || dob == null) {
+            throw new IllegalArgumentException("first, last and dob are required");
+        }
+        return ProfileSnapshot.of(language == null ? "en" : language, firstName,
+                fatherName == null ? "" : fatherName, lastName, dob, "", "");
+    }
+
+    private static void writeResponse(OutputStream out, int status, String contentType, byte[] body, boolean keepAlive) throws IOException {
+        String head = "HTTP/1.1 " + status + " " + reason(status) + "\r\n"
+                + "Content-Type: " + contentType + "; charset=utf-8\r\n"
+                + "Content-Length: " + body.length + "\r\n"
+                + (keepAlive ? "" : "Connection: close\r\n")
+                + "\r\n";
+        out.write(head.getBytes(StandardCharsets.ISO_8859_1));
+        out.write(body);
+    }
+
+    private static String reason(int status) {
+        switch (status) {
+            case 200:
+                return "OK";
+            case 400:
+                return "Bad Request";
+            case 404:
+                return "Not Found";
+            case 411:
+                return "Length Required";
+            case 413:
+                return "Payload Too Large";
+            case 431:
+                return "Request Header Fields Too Large";
+            default:
+                return "Error";
+        }
+    }
+
+    private String metricsJson() {
+        return "{\"requests\":" + metrics.getRequests()
+                + ",\"charts\":" + metrics.getCharts()
+                + ",\"errors\":" + metrics.getErrors()
+                + ",\"connections\":" + metrics.getConnections()
+                + ",\"chartsPerSecond\":" + String.format(Locale.ROOT, "%.1f", metrics.getChartsPerSecond())
+                + ",\"cacheSize\":" + cache.size()
+                + ",\"cacheHits\":" + cache.getHits()
+                + ",\"cacheMisses\":" + cache.getMisses()
+                + ",\"latencyMicros\":{\"p50\":" + metrics.getLatencyMicros(0.5)
+                + ",\"p99\":" + metrics.getLatencyMicros(0.99)
+                + ",\"p999\":" + metrics.getLatencyMicros(0.999) + "}}";
+    }
+
+    static void writeChart(StringBuilder sb, Chart chart) {
+        sb.append("{\"lifeNumber\":").append(chart.getLifeNumber())
+                .append(",\"expressionNumber\":").append(chart.getExpressionNumber())
+                .append(",\"personalityNumber\":").append(chart.getPersonalityNumber())
+                .append(",\"destinyNumber\":").append(chart.getDestinyNumber())
+                .append(",\"potencialNumber\":").append(chart.getPotencialNumber())
+                .append(",\"nameNumber\":").append(chart.getNameNumber())
+                .append(",\"realizationNumber\":").append(chart.getRealizationNumber())
+                .append(",\"intelligenceNumber\":").append(chart.getIntelligenceNumber())
+                .append(",\"balanceNumber\":").append(chart.getBalanceNumber())
+                .append(",\"soulNumber\":").append(chart.getSoulNumber())
+                .append(",\"soulNumberLetters\":").append(chart.getSoulNumberLetters())
+                .append(",\"characterNumber\":").append(chart.getCharacterNumber())
+                .append(",\"moneyNumber\":").append(chart.getMoneyNumber())
+                .append(",\"birthdayCode\":").append(chart.getBirthdayCode())
+                .append(",\"luckyGem\":").append(chart.getLuckyGem())
+                .append(",\"birthdayNumber\":").append(chart.getBirthdayNumber())
+                .append(",\"maturityNumber\":").append(chart.getMaturityNumber())
+                .append(",\"marriageNumber\":").append(chart.getMarriageNumber())
+                .append(",\"desireNumber\":").append(chart.getDesireNumber())
+                .append(",\"achievmentPeriod\":").append(chart.getAchievmentPeriod())
+                .append(",\"personalYear\":").append(chart.getPersonalYear())
+                .append(",\"personalMonth\":").append(chart.getPersonalMonth())
+                .append(",\"personalDay\":").append(chart.getPersonalDay())
+                .append(",\"luckyDailyNumber\":").append(chart.getLuckyDailyNumber());
+        appendArray(sb.append(",\"challengeNumbers\":"), chart.getChallengeNumbers());
+        appendArray(sb.append(",\"achievmentNumbers\":"), chart.getAchievmentNumbers());
+        appendArray(sb.append(",\"karmaNumbers\":"), chart.getKarmaNumbers());
+        appendArray(sb.append(",\"karmaLessons\":"), chart.getKarmaLessons());
+        appendArray(sb.append(",\"pythagorosSquare\":"), chart.getPythagorosSquare());
+        sb.append('}');
+    }
+
+    private static void appendArray(StringBuilder sb, int[] values) {
+        sb.append('[');
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(values[i]);
+        }
+        sb.append(']');
+    }
+
+    private static String errorJson(RuntimeException e) {
+        return errorJson(e.getClass().getSimpleName() + (e.getMessage() == null ? "" : ": " + e.getMessage()));
+    }
+
+    private static String errorJson(String message) {
+        StringBuilder sb = new StringBuilder("{\"error\":\"");
+        for (int i = 0; i < message.length(); i++) {
+            char c = message.charAt(i);
+            if (c == '"' || c == '\\') {
+                sb.append('\\').append(c);
+            } else if (c < 0x20) {
+                sb.append(String.format(Locale.ROOT, "\\u%04x", (int) c));
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.append("\"}").toString();
+    }
+
+    private static final class BadRequestException extends IOException {
+        private static final long serialVersionUID = 1L;
+
+        final int status;
+
+        BadRequestException(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+    }
+
+    private static final class Request {
+        final String method;
+        final String path;
+        final String rawQuery;
+        final String version;
+        final Map<String, String> headers;
+        final byte[] body;
+
+        private Request(String method, String path, String rawQuery, String version, Map<String, String> headers, byte[] body) {
+            this.method = method;
+            this.path = path;
+            this.rawQuery = rawQuery;
+            this.version = version;
+            this.headers = headers;
+            this.body = body;
+        }
+
+        /**
+         * Reads the next request of the connection, {@code null} when the client closed it in between requests.
+         */
+        static Request read(InputStream in) throws IOException {
+            String requestLine = readLine(in);
+            while (requestLine != null && requestLine.isEmpty()) {
+                requestLine = readLine(in);
+            }
+            if (requestLine == null) {
+                return null;
+            }
+            String[] parts = requestLine.split(" ");
+            if (parts.length != 3) {
+                throw new BadRequestException(400, "malformed request line");
+            }
+            Map<String, String> headers = new HashMap<>();
+            String line;
+            while ((line = readLine(in)) != null && !line.isEmpty()) {
+                int colon = line.indexOf(':');
+                if (colon > 0) {
+                    headers.put(line.substring(0, colon).trim().toLowerCase(Locale.ROOT), line.substring(colon + 1).trim());
+                }
+            }
+            if (line == null) {
+                throw new BadRequestException(400, "connection closed inside the headers");
+            }
+            if (headers.containsKey("transfer-encoding")) {
+                throw new BadRequestException(411, "chunked bodies are not supported, send Content-Length");
+            }
+            byte[] body = new byte[0];
+            String length = headers.get("content-length");
+            if (length != null) {
+                int n;
+                try {
+                    n = Integer.parseInt(length);
+                } catch (NumberFormatException e) {
+                    throw new BadRequestException(400, "bad Content-Length");
+                }
+                if (n < 0 || n > MAX_BODY) {
+                    throw new BadRequestException(413, "body larger than " + MAX_BODY + " bytes");
+                }
+                body = readFully(in, n);
+            }
+            String target = parts[1];
+            int question = target.indexOf('?');
+            return new Request(parts[0], question < 0 ? target : target.substring(0, question),
+                    question < 0 ? "" : target.substring(question + 1), parts[2], headers, body);
+        }
+
+        boolean keepAlive() {
+            String connection = headers.get("connection");
+            if (version.equals("HTTP/1.0")) {
+                return "keep-alive".equalsIgnoreCase(connection);
+            }
+            return !"close".equalsIgnoreCase(connection);
+        }
+
+        Map<String, String> query() {
+            Map<String, String> params = new HashMap<>();
+            if (rawQuery.isEmpty()) {
+                return params;
+            }
+            for (String pair : rawQuery.split("&")) {
+                int eq = pair.indexOf('=');
+                String key = eq < 0 ? pair : pair.substring(0, eq);
+                String value = eq < 0 ? "" : pair.substring(eq + 1);
+                params.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+            }
+            return params;
+        }
+
+        private static String readLine(InputStream in) throws IOException {
+            ByteArrayOutputStream line = new ByteArrayOutputStream(128);
+            int b;
+            while ((b = in.read()) != -1) {
+                if (b == '\n') {
+                    byte[] bytes = line.toByteArray();
+                    int end = bytes.length > 0 && bytes[bytes.length - 1] == '\r' ? bytes.length - 1 : bytes.length;
+                    return new String(bytes, 0, end, StandardCharsets.ISO_8859_1);
+                }
+                if (line.size() >= MAX_LINE) {
+                    throw new BadRequestException(431, "line longer than " + MAX_LINE + " bytes");
+                }
+                line.write(b);
+            }
+            return line.size() == 0 ? null : line.toString(StandardCharsets.ISO_8859_1.name());
+        }
+
+        private static byte[] readFully(InputStream in, int n) throws IOException {
+            byte[] body = new byte[n];
+            int read = 0;
+            while (read < n) {
+                int r = in.read(body, read, n - read);
+                if (r == -1) {
+                    throw new BadRequestException(400, "connection closed inside the body");
+                }
+                read += r;
+            }
+            return body;
+        }
+    }
+
+    private static final class WarmupLog implements CalculatorWarmup.Listener {
+
+        @Override
+        public void onTablesReady(long nanos) {
+            System.out.printf(Locale.ROOT, "Letter tables built in %.1f ms%n", nanos / 1e6);
+        }
+
+        @Override
+        public void onWarmedUp(long nanos, int rounds) {
+            System.out.printf(Locale.ROOT, "Calculator warmed up in %.1f ms, %d rounds%n", nanos / 1e6, rounds);
+        }
+
+        @Override
+        public void onFirstReading(long nanos, boolean tablesReady) {
+            System.out.printf(Locale.ROOT, "First chart %.1f ms after start%s%n", nanos / 1e6,
+                    tablesReady ? "" : ", before the letter tables were built");
+        }
+    }
+}
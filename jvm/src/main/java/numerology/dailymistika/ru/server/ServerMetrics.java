@@ -0,0 +1,77 @@
+package numerology.dailymistika.ru.server;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Request and chart counters plus a latency histogram with power-of-two microsecond buckets.
+ * Percentiles are reported as the upper bound of their bucket.
+ */
+public final class ServerMetrics {
+
+    private static final int BUCKETS = 40;
+
+    private final long startNanos = System.nanoTime();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder charts = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder connections = new LongAdder();
+    private final AtomicLongArray latency = new AtomicLongArray(BUCKETS);
+
+    void onConnection() {
+        connections.increment();
+    }
+
+    void onRequest(long nanos, int chartCount, boolean error) {
+        requests.increment();
+        charts.add(chartCount);
+        if (error) {
+            errors.increment();
+        }
+        long micros = Math.max(1, nanos / 1000);
+        latency.incrementAndGet(Math.min(BUCKETS - 1, 63 - Long.numberOfLeadingZeros(micros)));
+    }
+
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    public long getCharts() {
+        return charts.sum();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    public long getConnections() {
+        return connections.sum();
+    }
+
+    public double getChartsPerSecond() {
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        return seconds > 0 ? charts.sum() / seconds : 0;
+    }
+
+    /**
+     * Upper bound in microseconds of the bucket holding the {@code quantile} (0 to 1) of request latencies.
+     */
+    public long getLatencyMicros(double quantile) {
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            total += latency.get(i);
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(quantile * total);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += latency.get(i);
+            if (seen >= rank) {
+                return 2L << i;
+            }
+        }
+        return 2L << (BUCKETS - 1);
+    }
+}
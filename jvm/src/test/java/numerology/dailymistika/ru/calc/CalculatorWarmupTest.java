@@ -0,0 +1,57 @@
+package numerology.dailymistika.ru.calc;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CalculatorWarmupTest {
+
+    @Test
+    void exerciseRoundsWaitForTheFirstReading() {
+        Queue<Runnable> tasks = new ArrayDeque<>();
+        List<String> events = new ArrayList<>();
+        CalculatorWarmup.start(tasks::add, new CalculatorWarmup.Listener() {
+            @Override
+            public void onTablesReady(long nanos) {
+                events.add("tables");
+            }
+
+            @Override
+            public void onWarmedUp(long nanos, int rounds) {
+                events.add("warm");
+            }
+
+            @Override
+            public void onFirstReading(long nanos, boolean tablesReady) {
+                events.add("first reading, tables " + tablesReady);
+            }
+        });
+
+        runAll(tasks);
+        assertEquals(List.of("tables"), events);
+        assertFalse(CalculatorWarmup.isWarm());
+
+        CalculatorWarmup.reportFirstReading();
+        assertEquals(List.of("tables", "first reading, tables true"), events);
+        runAll(tasks);
+        assertEquals(List.of("tables", "first reading, tables true", "warm"), events);
+        assertTrue(CalculatorWarmup.isWarm());
+
+        CalculatorWarmup.reportFirstReading();
+        assertEquals(3, events.size());
+    }
+
+    private static void runAll(Queue<Runnable> tasks) {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            task.run();
+        }
+    }
+}
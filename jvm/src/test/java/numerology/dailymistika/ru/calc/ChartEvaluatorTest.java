@@ -0,0 +1,52 @@
+package numerology.dailymistika.ru.calc;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class ChartEvaluatorTest {
+
+    private static final ProfileSnapshot IVAN = ProfileSnapshot.of("ru", "Иван", "Иванович", "Иванов", "24/9/1990", "", "");
+    private static final ProfileSnapshot JOHN = ProfileSnapshot.of("en", "John", "", "Doe", "15/4/1985", "", "");
+
+    @Test
+    void parallelChartEqualsTheSequentialOne() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (ProfileSnapshot profile : new ProfileSnapshot[]{IVAN, JOHN}) {
+                assertArrayEquals(GoldenDataset.readings(ChartEvaluator.evaluate(profile)),
+                        GoldenDataset.readings(ChartEvaluator.evaluateParallel(profile, executor)));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void executorThatNeverRunsTasks() {
+        Chart chart = assertTimeoutPreemptively(Duration.ofSeconds(10),
+                () -> ChartEvaluator.evaluateParallel(IVAN, task -> { }));
+
+        assertArrayEquals(GoldenDataset.readings(ChartEvaluator.evaluate(IVAN)), GoldenDataset.readings(chart));
+    }
+
+    @Test
+    void calledFromTheOnlyWorkerOfItsExecutor() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Chart chart = assertTimeoutPreemptively(Duration.ofSeconds(10),
+                    () -> executor.submit(() -> new ChartEvaluator(new ProfileStore(JOHN), executor).current())
+                            .get(10, TimeUnit.SECONDS));
+
+            assertArrayEquals(GoldenDataset.readings(ChartEvaluator.evaluate(JOHN)), GoldenDataset.readings(chart));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package numerology.dailymistika.ru.calc;
+
+import java.util.Calendar;
+import java.util.TimeZone;
+
+import org.junit.jupiter.api.Test;
+
+import static java.lang.Math.sin;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ForecastTimelineTest {
+
+    private static final long DAY_MILLIS = 1000 * 60 * 60 * 24;
+    private static final String[] ZONES = {"UTC", "Europe/Moscow", "Europe/Berlin", "America/New_York", "Australia/Sydney"};
+    private static final String[] BIRTHDAYS = {"24/9/1990", "1/0/2000", "29/1/1984", "31/6/1975", "15/3/1961"};
+
+    @Test
+    void bioRhytmsFollowTheAppFormula() {
+        for (String zone : ZONES) {
+            TimeZone timeZone = TimeZone.getTimeZone(zone);
+            for (String birthday : BIRTHDAYS) {
+                ProfileSnapshot profile = ProfileSnapshot.of("en", "John", "", "Doe", birthday, "", "");
+                Calendar now = Calendar.getInstance(timeZone);
+                now.clear();
+                now.set(2024, Calendar.JANUARY, 1, 12, 0);
+                for (ForecastDay day : ForecastTimeline.of(profile, now, 2 * 366)) {
+                    long days = appDaysAfterBorn(birthday, now);
+                    String at = zone + " " + birthday + " on " + day.getDay() + "." + day.getMonth() + "." + day.getYear();
+                    assertArrayEquals(appBioRhytm(days, 23, 28, 33), day.getBioRhytm(), at);
+                    assertArrayEquals(appBioRhytm(days, 53, 48, 43, 38), day.getBioRhytmAdditional(), at);
+                    now.add(Calendar.DATE, 1);
+                }
+            }
+        }
+    }
+
+    @Test
+    void periodsEndAt36MinusTheAchievmentPeriodThenEveryNineYears() {
+        ProfileSnapshot profile = ProfileSnapshot.of("en", "John", "", "Doe", "24/9/1990", "", "");
+        int firstEnd = 36 - ProfileCalculator.calcAchievmentPeriod(profile);
+        int[] birthdays = {1990 + firstEnd, 1990 + firstEnd + 9, 1990 + firstEnd + 18};
+
+        for (int p = 0; p < birthdays.length; p++) {
+            assertEquals(p + 1, periodOn(profile, birthdays[p], Calendar.OCTOBER, 23));
+            assertEquals(p + 2, periodOn(profile, birthdays[p], Calendar.OCTOBER, 24));
+        }
+        assertEquals(4, periodOn(profile, 2100, Calendar.JANUARY, 1));
+    }
+
+    private static int periodOn(ProfileSnapshot profile, int year, int month, int day) {
+        Calendar date = Calendar.getInstance();
+        date.clear();
+        date.set(year, month, day);
+        return ForecastTimeline.of(profile, date, 1).iterator().next().getPeriod();
+    }
+
+    /**
+     * {@code DatesCalculator.calcDaysAfterBorn}: milliseconds since the local midnight of the birthday,
+     * floored to days. The date string month is 0-based like {@code Calendar.MONTH}.
+     */
+    private static long appDaysAfterBorn(String birthday, Calendar now) {
+        String[] date = birthday.split("/");
+        Calendar birth = Calendar.getInstance(now.getTimeZone());
+        birth.clear();
+        birth.set(Integer.parseInt(date[2]), Integer.parseInt(date[1]), Integer.parseInt(date[0]), 0, 0, 0);
+        return Math.floorDiv(now.getTimeInMillis() - birth.getTimeInMillis(), DAY_MILLIS);
+    }
+
+    /**
+     * {@code NumbersCalculator.calcDailyBioRhytm} and {@code calcDailyBioRhytmAdditional} for {@code days}.
+     */
+    private static float[] appBioRhytm(double days, int... cycles) {
+        float[] rhytms = new float[cycles.length];
+        for (int i = 0; i < cycles.length; i++) {
+            rhytms[i] = (float) (sin(2d * Math.PI * (days) / cycles[i]) * 100d);
+            if (rhytms[i] < 0 && rhytms[i] > -0.1) {
+                rhytms[i] = 0;
+            }
+        }
+        return rhytms;
+    }
+}
@@ -0,0 +1,61 @@
+package numerology.dailymistika.ru.calc;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Calendar;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Writes a {@link GoldenDataset} of {@link ReferenceCalculator} readings. Without arguments it writes
+ * {@code golden-dataset.gz} again exactly as committed.
+ *
+ * <pre>
+ * gradle -p jvm generateGoldenDataset [--args="path seed count year month day"]
+ * </pre>
+ * The month is 1-based here.
+ */
+public final class GoldenDatasetGenerator {
+
+    static final long SEED = 20261019L;
+    static final int COUNT = 10_000;
+
+    private GoldenDatasetGenerator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        String path = args.length > 0 ? args[0] : "golden-dataset.gz";
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : SEED;
+        int count = args.length > 2 ? Integer.parseInt(args[2]) : COUNT;
+        Calendar today = args.length > 5
+                ? date(Integer.parseInt(args[3]), Integer.parseInt(args[4]) - 1, Integer.parseInt(args[5]))
+                : date(2026, Calendar.OCTOBER, 19);
+
+        GoldenDataset dataset = generate(today, seed, count);
+        try (OutputStream out = new FileOutputStream(path)) {
+            dataset.write(out);
+        }
+
+        Map<String, Integer> failures = new TreeMap<>();
+        for (int i = 0; i < dataset.size(); i++) {
+            for (int j = 0; j < GoldenDataset.READINGS.length; j++) {
+                if (dataset.isFailed(i, j)) {
+                    failures.merge(GoldenDataset.READINGS[j], 1, Integer::sum);
+                }
+            }
+        }
+        System.out.println(path + ": " + dataset.size() + " profiles, failed readings " + failures);
+    }
+
+    static GoldenDataset generate(Calendar today, long seed, int count) {
+        return GoldenDataset.generate(ReferenceCalculator::reading, today, seed, count);
+    }
+
+    static Calendar date(int year, int month, int day) {
+        Calendar date = Calendar.getInstance();
+        date.clear();
+        date.set(year, month, day, 12, 0);
+        return date;
+    }
+}
@@ -0,0 +1,66 @@
+package numerology.dailymistika.ru.calc;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GoldenDatasetTest {
+
+    private static final String PATH = "golden-dataset.gz";
+
+    @Test
+    void committedDatasetIsGeneratedByTheReference() throws IOException {
+        GoldenDataset committed = read();
+        GoldenDataset generated = GoldenDatasetGenerator.generate(committed.getDate(), committed.getSeed(), committed.size());
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        generated.write(bytes);
+        assertArrayEquals(Files.readAllBytes(Paths.get(PATH)), bytes.toByteArray());
+    }
+
+    @Test
+    void currentCalculatorMatchesTheDataset() throws IOException {
+        GoldenDatasetCheck.main(new String[]{PATH});
+    }
+
+    @Test
+    void dateReadingsOfRenormalizedNamesAreNotExempt() throws IOException {
+        GoldenDataset dataset = read();
+        // moves every renormalized profile by a day, only its name readings may change
+        ChartEngine candidate = (profile, today) -> ChartEvaluator.evaluate(GoldenDatasetCheck.isRenormalized(profile)
+                ? profile.withDateOfBirth(nextDay(profile.getDateOfBirth())) : profile, today);
+        Set<Integer> renormalized = new HashSet<>();
+
+        DifferentialHarness.Report report = DifferentialHarness.run(dataset, candidate, Integer.MAX_VALUE,
+                d -> GoldenDatasetCheck.isExpected(d, renormalized, new HashSet<>()));
+
+        assertFalse(report.isIdentical());
+        for (DifferentialHarness.Divergence d : report.getDivergences()) {
+            assertFalse(GoldenDatasetCheck.isNameReading(d.getReading()), d.toString());
+            assertTrue(GoldenDatasetCheck.isRenormalized(d.getProfile()), d.toString());
+        }
+    }
+
+    private static String nextDay(String date) {
+        String[] parts = date.split("/");
+        int day = Integer.parseInt(parts[0]);
+        return (day == 28 ? 1 : day + 1) + "/" + parts[1] + "/" + parts[2];
+    }
+
+    private static GoldenDataset read() throws IOException {
+        try (InputStream in = new FileInputStream(PATH)) {
+            return GoldenDataset.read(in);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package numerology.dailymistika.ru.calc;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LetterHistogramTest {
+
+    @Test
+    void batchMatchesSingleNames() {
+        String[] names = {"иван", "", "john", "o'neil", "петров-водкин", "jürgen"};
+        StringBuilder packed = new StringBuilder();
+        int[] offsets = new int[names.length + 1];
+        for (int n = 0; n < names.length; n++) {
+            packed.append(names[n]);
+            offsets[n + 1] = packed.length();
+        }
+        int[] batch = LetterHistogram.countBatch(packed.toString().toCharArray(), offsets);
+
+        for (int n = 0; n < names.length; n++) {
+            int[] single = LetterHistogram.count(names[n].toCharArray());
+            for (int d = 0; d < LetterHistogram.DIGITS; d++) {
+                assertEquals(single[d], batch[n * LetterHistogram.DIGITS + d], names[n] + " digit " + d);
+            }
+            assertEquals(names[n].length(), sum(single), names[n]);
+        }
+    }
+
+    @Test
+    void readingsOfAHistogram() {
+        int[] histogram = {1, 2, 0, 3, 0, 3, 1, 0, 1, 0};
+
+        assertArrayEquals(new int[]{2, 4, 7, 9}, LetterHistogram.karmaLessons(histogram, 0));
+        // 3 and 5 both occur three times, the smaller digit wins
+        assertEquals(3, LetterHistogram.hiddenPassion(histogram, 0));
+        assertEquals(0, LetterHistogram.hiddenPassion(new int[LetterHistogram.DIGITS], 0));
+        assertEquals(2, LetterHistogram.intensity(histogram, 0, 1));
+    }
+
+    private static int sum(int[] values) {
+        int sum = 0;
+        for (int v : values) {
+            sum += v;
+        }
+        return sum;
+    }
+}
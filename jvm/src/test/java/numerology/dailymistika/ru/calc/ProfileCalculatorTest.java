@@ -0,0 +1,29 @@
+package numerology.dailymistika.ru.calc;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ProfileCalculatorTest {
+
+    @Test
+    void apostrophesAndHyphensCountAsZero() {
+        assertSameLetterSums(ProfileSnapshot.of("en", "Shane", "", "ONeil", "15/4/1985", "", ""),
+                ProfileSnapshot.of("en", "Shane", "", "O'Neil", "15/4/1985", "", ""));
+        assertSameLetterSums(ProfileSnapshot.of("ru", "Кузьма", "Сергеевич", "ПетровВодкин", "5/10/1878", "", ""),
+                ProfileSnapshot.of("ru", "Кузьма", "Сергеевич", "Петров-Водкин", "5/10/1878", "", ""));
+    }
+
+    /**
+     * The balance number counts every character, so only the letter sums are the same.
+     */
+    private static void assertSameLetterSums(ProfileSnapshot expected, ProfileSnapshot actual) {
+        Chart want = ChartEvaluator.evaluate(expected);
+        Chart got = ChartEvaluator.evaluate(actual);
+        assertEquals(want.getExpressionNumber(), got.getExpressionNumber());
+        assertEquals(want.getPersonalityNumber(), got.getPersonalityNumber());
+        assertEquals(want.getDestinyNumber(), got.getDestinyNumber());
+        assertEquals(want.getPotencialNumber(), got.getPotencialNumber());
+        assertEquals(want.getDesireNumber(), got.getDesireNumber());
+    }
+}
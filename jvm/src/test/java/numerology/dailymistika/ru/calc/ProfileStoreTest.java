@@ -0,0 +1,67 @@
+package numerology.dailymistika.ru.calc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ProfileStoreTest {
+
+    private static final ProfileSnapshot IVAN = ProfileSnapshot.of("ru", "Иван", "Иванович", "Иванов", "24/9/1990", "", "");
+
+    @Test
+    void saveHandsEachEditToPersistInVersionOrder() {
+        ProfileStore store = new ProfileStore(IVAN);
+        List<String> persisted = new ArrayList<>();
+
+        ProfileSnapshot renamed = store.save(p -> p.withName("Пётр", p.getFatherName(), p.getLastName()),
+                (prev, next) -> persisted.add(prev.getVersion() + "->" + next.getVersion() + " " + next.getFirstName()));
+        ProfileSnapshot moved = store.save(p -> p.withDateOfBirth("1/0/2000"),
+                (prev, next) -> persisted.add(prev.getVersion() + "->" + next.getVersion() + " " + next.getDateOfBirth()));
+
+        assertEquals(List.of("0->1 Пётр", "1->2 1/0/2000"), persisted);
+        assertEquals(1, renamed.getVersion());
+        assertSame(moved, store.snapshot());
+        assertEquals("Пётр", store.snapshot().getFirstName());
+    }
+
+    @Test
+    void replacePublishesTheNextVersion() {
+        ProfileStore store = new ProfileStore(IVAN);
+        store.update(p -> p.withWeddingDay("1/5/2015"));
+
+        ProfileSnapshot fresh = store.replace(IVAN);
+
+        assertEquals(2, fresh.getVersion());
+        assertEquals(IVAN, fresh);
+    }
+
+    @Test
+    void nameFormsAreSharedUntilTheNamesChange() {
+        ProfileStore store = new ProfileStore(IVAN);
+        NameForms forms = store.snapshot().getNameForms();
+
+        store.save(p -> p.withDateOfBirth("1/0/2000"), (prev, next) -> { });
+        assertSame(forms, store.snapshot().getNameForms());
+        store.replace(ProfileSnapshot.of("ru", "Иван", "Иванович", "Иванов", "1/0/2000", "", ""));
+        assertSame(forms, store.snapshot().getNameForms());
+        store.update(p -> p.withName("Иван", "Иванович", "Иванов"));
+        assertSame(forms, store.snapshot().getNameForms());
+
+        store.update(p -> p.withName("Пётр", "Иванович", "Иванов"));
+        NameForms renamed = store.snapshot().getNameForms();
+        assertNotSame(forms, renamed);
+        assertEquals("пётр", new String(renamed.firstName));
+        store.update(p -> p.withLanguage("en"));
+        assertNotSame(renamed, store.snapshot().getNameForms());
+    }
+
+    @Test
+    void concurrentSavesAndReadsStayConsistent() throws InterruptedException {
+        ProfileStoreStressCheck.main(new String[]{"500"});
+    }
+}
@@ -0,0 +1,714 @@
+package numerology.dailymistika.ru.calc;
+
+import java.util.Calendar;
+import java.util.Locale;
+
+/**
+ * The calculator of the initial commit, {@code NumbersCalculator} before the profile snapshots, which
+ * {@code golden-dataset.gz} is recorded from. The method bodies are the original ones, only their inputs are
+ * not Android's: preferences come from a {@link ProfileSnapshot}, the app language of {@code LanguageController}
+ * is the snapshot's, every {@code Calendar.getInstance()} is a copy of {@code today} and names are lower cased
+ * in {@link Locale#ROOT} instead of the device locale. Methods no chart reading uses are left out.
+ * Letters are still looked up in the {@link DataSetConstants} maps, so the vowel sum fails on unknown letters.
+ */
+final class ReferenceCalculator {
+
+    private final ProfileSnapshot profile;
+    private final Calendar today;
+
+    ReferenceCalculator(ProfileSnapshot profile, Calendar today) {
+        this.profile = profile;
+        this.today = today;
+    }
+
+    /**
+     * Reading {@code index} of {@link GoldenDataset#READINGS}, computed on its own.
+     */
+    static int reading(ProfileSnapshot profile, Calendar today, int index) {
+        ReferenceCalculator calculator = new ReferenceCalculator(profile, today);
+        String name = GoldenDataset.READINGS[index];
+        int bracket = name.indexOf('[');
+        if (bracket >= 0) {
+            int element = Integer.parseInt(name.substring(bracket + 1, name.length() - 1));
+            return name.startsWith("karmaNumber")
+                    ? calculator.calcKarmaNumber()[element]
+                    : calculator.calcPythagorosSquare(profile.getDateOfBirth())[element - 1];
+        }
+        switch (name) {
+            case "lifeNumber": return calculator.calcLifeNumberMethod1();
+            case "expressionNumber": return calculator.calcExpressionNumber();
+            case "personalityNumber": return calculator.calcPersonalityNumber();
+            case "destinyNumber": return calculator.calcDestinyNumber();
+            case "potencialNumber": return calculator.calcPotencialNumber();
+            case "nameNumber": return calculator.calcNameNumber();
+            case "realizationNumber": return calculator.calcRealizationNumber();
+            case "intelligenceNumber": return calculator.calcIntelligenceNumber();
+            case "balanceNumber": return calculator.calcBalanceNumber();
+            case "soulNumber": return calculator.calcSoulNumber();
+            case "soulNumberLetters": return calculator.calcSoulNumberLetters();
+            case "characterNumber": return calculator.calcCharacterNumber();
+            case "moneyNumber": return calculator.calcMoneyNumber();
+            case "birthdayCode": return calculator.calcBirthdayCode();
+            case "luckyGem": return calculator.calcLuckyGem();
+            case "birthdayNumber": return calculator.calcBirthdayNumber();
+            case "maturityNumber": return calculator.calcMaturityNumber();
+            case "marriageNumber": return calculator.calcMarriageNumber();
+            case "desireNumber": return calculator.calcDesireNumber();
+            case "achievmentPeriod": return calculator.calcAchievmentPeriod();
+            case "personalYear": return calculator.calcPersonalYear();
+            case "personalMonth": return calculator.calcPersonalMonth();
+            case "personalDay": return calculator.calcPersonalDay();
+            case "luckyDailyNumber": return calculator.calcLuckyDailyNumber();
+            case "challengeNumber1": return calculator.calcChallengeNumber1();
+            case "challengeNumber2": return calculator.calcChallengeNumber2();
+            case "challengeNumber3": return calculator.calcChallengeNumber3();
+            case "challengeNumber4": return calculator.calcChallengeNumber4();
+            case "achievmentNumber1": return calculator.calcAchievmentNumber1();
+            case "achievmentNumber2": return calculator.calcAchievmentNumber2();
+            case "achievmentNumber3": return calculator.calcAchievmentNumber3();
+            case "achievmentNumber4": return calculator.calcAchievmentNumber4();
+            default: throw new IllegalArgumentException("unknown reading " + name);
+        }
+    }
+
+    public int calcLifeNumberMethod1() {
+        String date = profile.getDateOfBirth();
+        int lifeNumberDay, lifeNumberMonth, lifeNumberYear;
+        boolean isStop = false;
+        lifeNumberDay = Integer.valueOf(date.split("/")[0]);
+        lifeNumberMonth = Integer.valueOf(date.split("/")[1]) + 1;
+        lifeNumberYear = Integer.valueOf(date.split("/")[2]);
+
+        lifeNumberDay = calcToSingleDigitWithMagicNums(lifeNumberDay);
+        lifeNumberMonth = calcToSingleDigitWithMagicNums(lifeNumberMonth);
+        lifeNumberYear = calcToSingleDigitWithMagicNums(lifeNumberYear);
+
+        return calcToSingleDigitWithMagicNums(lifeNumberDay + lifeNumberMonth + lifeNumberYear);
+    }
+
+    public int calcLuckyDailyNumber() {
+        int luckyNum = 0;
+        luckyNum = calcPersonalDay() + calcLifeNumberMethod1();
+        return calcToSingleDigit(luckyNum);
+    }
+
+    public int calcExpressionNumber() {
+        char[] name;
+        char[] lastName;
+        char[] middleName;
+        int nameNum = 0, lastNameNum = 0, middleNameNum = 0;
+        int expressionNumber = 0;
+        if (profile.getLanguage().equals("ru")) {
+            name = profile.getFirstName().toLowerCase(Locale.ROOT).toCharArray();
+            middleName = profile.getFatherName().trim().toLowerCase(Locale.ROOT).toCharArray();
+            lastName = profile.getLastName().toLowerCase(Locale.ROOT).toCharArray();
+            nameNum = convertCharsAndSum(name);
+            nameNum = calcNumToDigits(nameNum);
+            nameNum = calcNumToDigits(nameNum);
+
+            lastNameNum = convertCharsAndSum(lastName);
+            lastNameNum = calcNumToDigits(lastNameNum);
+            lastNameNum = calcNumToDigits(lastNameNum);
+
+            middleNameNum = convertCharsAndSum(middleName);
+            middleNameNum = calcNumToDigits(middleNameNum);
+            middleNameNum = calcNumToDigits(middleNameNum);
+
+            expressionNumber = calcToSingleDigit(nameNum + lastNameNum + middleNameNum);
+
+
+        } else {
+            name = profile.getFirstName().toLowerCase(Locale.ROOT).toCharArray();
+            lastName = profile.getLastName().toLowerCase(Locale.ROOT).toCharArray();
+
+
+            nameNum = convertCharsAndSum(name);
+            nameNum = calcNumToDigits(nameNum);
+            nameNum = calcNumToDigits(nameNum);
+
+            lastNameNum = convertCharsAndSum(lastName);
+            lastNameNum = calcNumToDigits(lastNameNum);
+            lastNameNum = calcNumToDigits(lastNameNum);
+
+            if (!profile.getFatherName().trim().isEmpty()) {
+                middleName = profile.getFatherName().trim().toLowerCase(Locale.ROOT).toCharArray();
+                middleNameNum = convertCharsAndSum(middleName);
+                middleNameNum = calcNumToDigits(middleNameNum);
+                middleNameNum = calcNumToDigits(middleNameNum);
+            }
+
+
+            expressionNumber = calcNumToDigits(nameNum + lastNameNum + middleNameNum);
+            expressionNumber = calcToSingleDigitWithMagicNums(expressionNumber);
+
+        }
+
+
+        return expressionNumber;
+
+    }
+
+    public int calcPersonalityNumber() {
+        char[] name;
+        char[] lastName;
+        char[] middleName;
+        boolean isStop = false;
+        int nameNum = 0, lastNameNum = 0, middleNameNum = 0;
+        int personalityNumber = 0;
+        if (profile.getLanguage().equals("ru")) {
+            name = profile.getFirstName().toLowerCase(Locale.ROOT).toCharArray();
+            middleName = profile.getFatherName().trim().toLowerCase(Locale.ROOT).toCharArray();
+            lastName = profile.getLastName().toLowerCase(Locale.ROOT).toCharArray();
+            nameNum = convertConCharsAndSum(name);
+            nameNum = calcToSingleDigit(nameNum);
+            lastNameNum = convertConCharsAndSum(lastName);
+            lastNameNum = calcToSingleDigit(lastNameNum);
+            middleNameNum = convertConCharsAndSum(middleName);
+            middleNameNum = calcToSingleDigit(middleNameNum);
+
+            personalityNumber = nameNum + lastNameNum + middleNameNum;
+            while (!isStop) {
+                if (personalityNumber == 11 || personalityNumber == 22 || personalityNumber < 10) {
+                    isStop = true;
+                } else {
+                    personalityNumber = calcNumToDigits(personalityNumber);
+                }
+            }
+
+        } else {
+            name = profile.getFirstName().toLowerCase(Locale.ROOT).toCharArray();
+            lastName = profile.getLastName().toLowerCase(Locale.ROOT).toCharArray();
+
+
+            nameNum = convertConCharsAndSum(name);
+            nameNum = calcToSingleDigit(nameNum);
+
+            lastNameNum = convertConCharsAndSum(lastName);
+            lastNameNum = calcToSingleDigit(lastNameNum);
+
+            if (!profile.getFatherName().trim().isEmpty()) {
+                middleName = profile.getFatherName().trim().toLowerCase(Locale.ROOT).toCharArray();
+                middleNameNum = convertConCharsAndSum(middleName);
+                middleNameNum = calcToSingleDigit(middleNameNum);
+                personalityNumber = nameNum + lastNameNum + middleNameNum;
+            } else {
+                personalityNumber = nameNum + lastNameNum;
+            }
+
+            while (!isStop) {
+                if (personalityNumber == 11 || personalityNumber == 22 || personalityNumber < 10) {
+                    isStop = true;
+                } else {
+                    personalityNumber = calcNumToDigits(personalityNumber);
+                }
+            }
+
+        }
+        return personalityNumber;
+
+    }
+
+    public int[] calcKarmaNumber() {
+        String name;
+        String lastName;
+        String middleName;
+        String fullName;
+        char[] full;
+        int[] letters;
+        int[] finalArray = new int[10];
+        int j=0;
+        name = profile.getFirstName().toLowerCase(Locale.ROOT);
+        middleName = profile.getFatherName().trim();
+        lastName = profile.getLastName().toLowerCase(Locale.ROOT);
+        fullName = name + middleName + lastName;
+        letters = new int[fullName.length()];
+        full = fullName.toCharArray();
+        for (char letter : full) {
+            try {
+                letters[j] = DataSetConstants.getLetterToNumber().get(letter);
+            } catch (NullPointerException e) {
+                letters[j] = 0;
+            }
+            j++;
+        }
+        for(int k = 0; k < finalArray.length; k++){
+            int count = 0;
+            for (int letter : letters) {
+                if (letter == k) {
+                    count++;
+                }
+            }
+            finalArray[k] = count;
+        }
+        return finalArray;
+    }
+
+    public int calcDestinyNumber() {
+
+        char[] name;
+        char[] lastName;
+        char[] middleName;
+        boolean isStop = false;
+        int nameNum = 0, lastNameNum = 0, middleNameNum = 0;
+        int nameNumVow = 0, lastNameNumVow = 0, middleNameNumVow = 0;
+        int destinyNumber = 0;
+        name = profile.getFirstName().toLowerCase(Locale.ROOT).toCharArray();
+        middleName = profile.getFatherName().trim().toLowerCase(Locale.ROOT).toCharArray();
+        lastName = profile.getLastName().toLowerCase(Locale.ROOT).toCharArray();
+
+        nameNum = convertConCharsAndSum(name);
+        nameNum = calcToSingleDigit(nameNum);
+        nameNumVow = convertVowCharsAndSum(name);
+        nameNumVow = calcToSingleDigit(nameNumVow);
+
+        lastNameNum = convertConCharsAndSum(lastName);
+        lastNameNum = calcToSingleDigit(lastNameNum);
+        lastNameNumVow = convertVowCharsAndSum(lastName);
+        lastNameNumVow = calcToSingleDigit(lastNameNumVow);
+
+        middleNameNum = convertConCharsAndSum(middleName);
+        middleNameNum = calcToSingleDigit(middleNameNum);
+        middleNameNumVow = convertVowCharsAndSum(middleName);
+        middleNameNumVow = calcToSingleDigit(middleNameNumVow);
+
+
+        destinyNumber = nameNum + nameNumVow + lastNameNumVow + lastNameNum + middleNameNum + middleNameNumVow;
+        while (!isStop) {
+            if (destinyNumber == 11 || destinyNumber == 22 || destinyNumber < 10) {
+                isStop = true;
+            } else {
+                destinyNumber = calcNumToDigits(destinyNumber);
+            }
+        }
+
+        return destinyNumber;
+    }
+
+    public int calcPotencialNumber() {
+        int birthCode = calcBirthdayCode();
+        int destinyNum = calcDestinyNumber();
+        return calcToSingleDigitWithMagicNums(birthCode + destinyNum);
+
+    }
+
+    public int calcNameNumber() {
+        String name;
+        boolean isStop = false;
+        int nameNum = 0;
+        int nameNumber = 0;
+        if (profile.getLanguage().equals("ru")) {
+            name = profile.getFirstName().toLowerCase(Locale.ROOT) + profile.getFatherName().trim().toLowerCase(Locale.ROOT) + profile.getLastName().toLowerCase(Locale.ROOT);
+            nameNum = convertCharsAndSum(name.toCharArray());
+            while (!isStop) {
+                if (nameNum == 11 || nameNum == 22 || nameNum < 10) {
+                    nameNumber = nameNum;
+                    isStop = true;
+                } else {
+                    nameNum = calcNumToDigits(nameNum);
+                }
+            }
+
+        } else {
+            if (profile.getFatherName().trim().isEmpty()) {
+                name = profile.getFirstName().toLowerCase(Locale.ROOT) + profile.getLastName().toLowerCase(Locale.ROOT);
+            } else {
+
+                name = profile.getFirstName().toLowerCase(Locale.ROOT) + profile.getFatherName().trim().toLowerCase(Locale.ROOT) + profile.getLastName().toLowerCase(Locale.ROOT);
+            }
+
+            nameNum = convertCharsAndSum(name.toCharArray());
+            while (!isStop) {
+                if (nameNum < 10) {
+                    nameNumber = nameNum;
+                    isStop = true;
+                } else {
+                    nameNum = calcNumToDigits(nameNum);
+                }
+            }
+
+        }
+
+
+        return nameNumber;
+
+    }
+
+    public int calcRealizationNumber() {
+        int realizationNumber = 0;
+        realizationNumber = calcLifeNumberMethod1() + calcExpressionNumber();
+        return calcToSingleDigitWithMagicNums(realizationNumber);
+    }
+
+    public int calcIntelligenceNumber() {
+        int intelligenceNumber = 0, nameNum, dayNum;
+        char[] name;
+        char[] day;
+        name = profile.getFirstName().toLowerCase(Locale.ROOT).toCharArray();
+        day = profile.getDateOfBirth().split("/")[0].toCharArray();
+
+        nameNum = convertCharsAndSum(name);
+        nameNum = calcToSingleDigit(nameNum);
+
+        dayNum = charToNumber(day);
+        dayNum = calcToSingleDigit(dayNum);
+
+        intelligenceNumber = dayNum + nameNum;
+
+        intelligenceNumber = calcToSingleDigit(intelligenceNumber);
+
+        return intelligenceNumber;
+    }
+
+    public int calcBalanceNumber() {
+        String name;
+        int balanceNumber = 0;
+
+        name = profile.getFirstName().toLowerCase(Locale.ROOT) + profile.getFatherName().toLowerCase(Locale.ROOT).trim() + profile.getLastName().toLowerCase(Locale.ROOT);
+        balanceNumber = name.length();
+        return calcToSingleDigitWithMagicNums(balanceNumber);
+
+    }
+
+    public int calcSoulNumber() {
+        char[] day;
+        day = profile.getDateOfBirth().split("/")[0].toCharArray();
+        return calcToSingleDigitWithMagicNums(charToNumber(day));
+    }
+
+    public int calcSoulNumberLetters() {
+        char[] name;
+        char[] lastName;
+        char[] middleName;
+        boolean isStop = false;
+        int nameNum = 0, lastNameNum = 0, middleNameNum = 0;
+        int soulNumber = 0;
+            name = profile.getFirstName().toLowerCase(Locale.ROOT).toCharArray();
+            lastName = profile.getLastName().toLowerCase(Locale.ROOT).toCharArray();
+            nameNum = convertVowCharsAndSum(name);
+//            nameNum = calcToSingleDigit(nameNum);
+            lastNameNum = convertVowCharsAndSum(lastName);
+//            lastNameNum = calcToSingleDigit(lastNameNum);
+
+            if (!profile.getFatherName().trim().isEmpty()) {
+                middleName = profile.getFatherName().trim().toLowerCase(Locale.ROOT).toCharArray();
+                middleNameNum = convertVowCharsAndSum(middleName);
+//                middleNameNum = calcToSingleDigit(middleNameNum);
+                soulNumber = nameNum + lastNameNum + middleNameNum;
+            } else {
+                soulNumber = nameNum + lastNameNum;
+            }
+
+            while (!isStop) {
+                if (soulNumber == 11 || soulNumber == 22 || soulNumber < 10) {
+                    isStop = true;
+                } else {
+                    soulNumber = calcNumToDigits(soulNumber);
+                }
+            }
+
+        return soulNumber;
+
+    }
+
+    public int calcCharacterNumber() {
+        char[] day;
+        day = profile.getDateOfBirth().split("/")[0].toCharArray();
+        return calcToSingleDigitWithMagicNums(charToNumber(day));
+    }
+
+    public int calcMoneyNumber() {
+        char[] day;
+        char[] month;
+        String date = profile.getDateOfBirth();
+        day = date.split("/")[0].toCharArray();
+        month = date.split("/")[1].toCharArray();
+        return calcToSingleDigit(calcToSingleDigit(charToNumber(day)) + calcToSingleDigit(charToNumber(month) + 1));
+    }
+
+    public int calcBirthdayCode() {
+        int brthCodeNumber = 0, lifeNumberDay = 0, lifeNumberMonth = 0, lifeNumberYear = 0;
+        String date;
+        date = profile.getDateOfBirth();
+        lifeNumberDay = charToNumber(date.split("/")[0].toCharArray());
+        lifeNumberMonth = charToNumber(date.split("/")[1].toCharArray()) + 1;
+        lifeNumberYear = charToNumber(date.split("/")[2].toCharArray());
+
+        brthCodeNumber = lifeNumberDay + lifeNumberMonth + lifeNumberYear;
+        if (profile.getLanguage().equals("ru"))
+            return calcToSingleDigitWithMagicNums(brthCodeNumber);
+        else
+            return calcToSingleDigit(brthCodeNumber);
+    }
+
+    public int calcLuckyGem() {
+        int luckyGem = Integer.valueOf(profile.getDateOfBirth().split("/")[0]);
+        return calcToSingleDigit(luckyGem);
+    }
+
+    public int calcBirthdayNumber() {
+        return Integer.valueOf(profile.getDateOfBirth().split("/")[0]);
+    }
+
+    public int calcMaturityNumber() {
+        int maturityNumber = calcLifeNumberMethod1() + calcExpressionNumber();
+        if (profile.getLanguage().equals("ru"))
+            return calcToSingleDigit(maturityNumber);
+        else
+            return calcToSingleDigitWithMagicNums(maturityNumber);
+
+    }
+
+    public int calcPersonalYear() {
+        int day, month, year;
+        String date = profile.getDateOfBirth();
+        Calendar cal = (Calendar) today.clone();
+        year = cal.get(Calendar.YEAR);
+        day = charToNumber(date.split("/")[0].toCharArray());
+        month = charToNumber(date.split("/")[1].toCharArray()) + 1;
+        year = calcToSingleDigitWithMagicNums(year);
+        day = calcToSingleDigitWithMagicNums(day);
+        month = calcToSingleDigitWithMagicNums(month);
+
+        return calcToSingleDigit(day + month + year);
+    }
+
+    public int calcPersonalMonth() {
+        int year = calcPersonalYear();
+        Calendar cal = (Calendar) today.clone();
+        int month = cal.get(Calendar.MONTH) + 1;
+        return calcToSingleDigit(year + month);
+    }
+
+    public int calcMarriageNumber() {
+        int marriageNum = calcRealizationNumber();
+        return calcToSingleDigit(marriageNum);
+    }
+
+    public int calcPersonalDay() {
+        int month = calcPersonalMonth();
+        Calendar cal = (Calendar) today.clone();
+        int day = cal.get(Calendar.DAY_OF_MONTH);
+        return calcToSingleDigit(month + day);
+    }
+
+    public int calcDesireNumber() {
+        int nameNum, lastNameNum;
+        char[] name;
+        char[] lastName;
+
+        name = profile.getFirstName().toLowerCase(Locale.ROOT).toCharArray();
+        lastName = profile.getLastName().toLowerCase(Locale.ROOT).toCharArray();
+        nameNum = convertConCharsAndSum(name);
+        nameNum = calcToSingleDigitWithMagicNums(nameNum);
+
+        lastNameNum = convertConCharsAndSum(lastName);
+        lastNameNum = calcToSingleDigitWithMagicNums(lastNameNum);
+        return calcToSingleDigitWithMagicNums(nameNum + lastNameNum);
+    }
+
+    public int calcAchievmentPeriod() {
+        return calcToSingleDigit(calcLifeNumberMethod1());
+    }
+
+    public int calcChallengeNumber1() {
+        char[] day;
+        char[] month;
+        int m;
+        String date = profile.getDateOfBirth();
+        day = date.split("/")[0].toCharArray();
+        month = date.split("/")[1].toCharArray();
+        m = calcToSingleDigit(charToNumber(month)) + 1;
+        return Math.abs(calcToSingleDigit(charToNumber(day)) - m);
+    }
+
+    public int calcChallengeNumber2() {
+        char[] day;
+        char[] year;
+        String date = profile.getDateOfBirth();
+        day = date.split("/")[0].toCharArray();
+        year = date.split("/")[2].toCharArray();
+        return Math.abs(calcToSingleDigit(charToNumber(day)) - calcToSingleDigit(charToNumber(year)));
+    }
+
+    public int calcChallengeNumber3() {
+        return Math.abs(calcChallengeNumber1() - calcChallengeNumber2());
+    }
+
+    public int calcChallengeNumber4() {
+        char[] year;
+        char[] month;
+        int m;
+        String date = profile.getDateOfBirth();
+        year = date.split("/")[2].toCharArray();
+        month = date.split("/")[1].toCharArray();
+        m = calcToSingleDigit(charToNumber(month)) + 1;
+        return Math.abs(calcToSingleDigit(charToNumber(year)) - m);
+    }
+
+    public int calcAchievmentNumber1() {
+        char[] day;
+        char[] month;
+        String date = profile.getDateOfBirth();
+        day = date.split("/")[0].toCharArray();
+        month = date.split("/")[1].toCharArray();
+        return calcToSingleDigit(calcToSingleDigit(charToNumber(day)) + calcToSingleDigit(charToNumber(month) + 1));
+    }
+
+    public int calcAchievmentNumber2() {
+        char[] day;
+        char[] year;
+        String date = profile.getDateOfBirth();
+        day = date.split("/")[0].toCharArray();
+        year = date.split("/")[2].toCharArray();
+        return calcToSingleDigit(calcToSingleDigit(charToNumber(day)) + calcToSingleDigit(charToNumber(year)));
+    }
+
+    public int calcAchievmentNumber3() {
+        int ach3 = calcAchievmentNumber1() + calcAchievmentNumber2();
+        return calcToSingleDigit(ach3);
+    }
+
+    public int calcAchievmentNumber4() {
+        char[] year;
+        char[] month;
+        String date = profile.getDateOfBirth();
+        year = date.split("/")[2].toCharArray();
+        month = date.split("/")[1].toCharArray();
+        return calcToSingleDigit(calcToSingleDigit(charToNumber(year)) + calcToSingleDigit(charToNumber(month) + 1));
+    }
+
+    public int[] calcPythagorosSquare(String dob) {
+        int day;
+        int month;
+        int year;
+        int helping;
+        int helpYear = 0;
+        String helpNum, helpSingle;
+        int[] helpArray = new int[4];
+        int[] array = {0, 0, 0, 0, 0, 0, 0, 0, 0};
+        String date = dob;
+        day = Integer.valueOf(date.split("/")[0]);
+        month = Integer.valueOf(date.split("/")[1]) + 1;
+        year = Integer.valueOf(date.split("/")[2]);
+//        if(year >= 2000){
+//            helpYear =  year - 1999;
+//            helpArray[0] = calcNumToDigits(day) + calcNumToDigits(month) + calcNumToDigits(1999)+ calcNumToDigits(helpYear);
+//        }else
+        helpArray[0] = calcNumToDigits(day) + calcNumToDigits(month) + calcNumToDigits(year);
+
+        helpArray[1] = calcNumToDigits(helpArray[0]);
+        if (day > 9) {
+            helpArray[2] = Math.abs(helpArray[0] - ((int) (day / 10) * 2));
+        } else {
+            helpArray[2] = Math.abs(helpArray[0] - (day * 2));
+        }
+        helpArray[3] = calcNumToDigits(helpArray[2]);
+        helpNum = "" + day + month + year + helpArray[0] + helpArray[1] + helpArray[2] + helpArray[3];
+        helpNum = helpNum.replace("0", "");
+        for (char single : helpNum.toCharArray()) {
+            helping = Character.getNumericValue(single);
+            if (array[helping - 1] == 0) {
+                array[helping - 1] = helping;
+            } else {
+                helpSingle = "" + array[helping - 1] + helping;
+                array[helping - 1] = Integer.valueOf(helpSingle);
+            }
+        }
+        return array;
+    }
+
+    private static int calcNumToDigits(int number) {
+        int sum = 0;
+        while (number > 0) {
+            sum = sum + number % 10;
+            number = number / 10;
+        }
+
+        return sum;
+    }
+
+    private static int charToNumber(char[] digits) {
+        int lifeNumber = 0;
+        for (char digit : digits) {
+            lifeNumber = lifeNumber + Character.getNumericValue(digit);
+        }
+        return lifeNumber;
+    }
+
+    private int convertCharsAndSum(char[] letters) {
+        int num = 0, let = 0;
+        for (char letter : letters) {
+            try {
+                if(profile.getAppLanguage().equals("de")&& letter=='ü'){
+                    let = 8;
+                }else  if(profile.getAppLanguage().equals("de")&& letter=='ä'){
+                   let = 6;
+                }else
+                    let = DataSetConstants.getLetterToNumber().get(letter);
+            } catch (NullPointerException e) {
+                let = 0;
+            }
+
+            num = num + let;
+        }
+
+        return num;
+    }
+
+    private static int convertConCharsAndSum(char[] letters) {
+        int num = 0, let = 0;
+        for (char letter : letters) {
+            try {
+                let = DataSetConstants.getConLetterToNumber().get(letter);
+            } catch (NullPointerException e) {
+                let = 0;
+            }
+
+            num = num + let;
+        }
+
+        return num;
+    }
+
+    private int convertVowCharsAndSum(char[] letters) {
+        int num = 0;
+        for (char letter : letters) {
+            if(profile.getAppLanguage().equals("de")&& letter=='ü'){
+                num = num + 8;
+            }else  if(profile.getAppLanguage().equals("de")&& letter=='ä'){
+                num = num + 6;
+            }else
+                num = num + DataSetConstants.getVowLetterToNumber().get(letter);
+        }
+
+        return num;
+    }
+
+    private static int calcToSingleDigit(int number) {
+        boolean isStop = false;
+        int result = 0;
+        result = number;
+        while (!isStop) {
+            if (result < 10) {
+                isStop = true;
+            } else {
+                result = calcNumToDigits(result);
+            }
+        }
+        return result;
+    }
+
+    private static int calcToSingleDigitWithMagicNums(int number) {
+        boolean isStop = false;
+        int result = 0;
+        result = number;
+        while (!isStop) {
+            if (result == 11 || result == 22 || result < 10) {
+                isStop = true;
+            } else {
+                result = calcNumToDigits(result);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,124 @@
+package numerology.dailymistika.ru.dialogs;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RateDialogPolicyTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+    private static final long HOUR = 60 * 60 * 1000L;
+    private static final int VERSION = 5;
+
+    private static final RateDialogPolicy.RateState FRESH = new RateDialogPolicy.RateState(0, false, 0, 0);
+
+    @Test
+    void defaultShowsOnTheTenthClick() {
+        RateDialogPolicy policy = new RateDialogPolicy();
+
+        RateDialogPolicy.RateState state = clickWithoutShow(policy, FRESH, 9, NOW, VERSION);
+        assertEquals(9, state.getClicks());
+
+        assertTrue(policy.onClick(state, NOW, VERSION).isShow());
+    }
+
+    @Test
+    void clicksAreNotResetUntilShown() {
+        RateDialogPolicy policy = new RateDialogPolicy();
+        RateDialogPolicy.RateState state = clickWithoutShow(policy, FRESH, 9, NOW, VERSION);
+
+        RateDialogPolicy.Outcome outcome = policy.onClick(state, NOW, VERSION);
+        assertTrue(outcome.isShow());
+        assertEquals(9, outcome.getState().getClicks());
+        // the dialog could not be shown, the next click asks again
+        assertTrue(policy.onClick(outcome.getState(), NOW, VERSION).isShow());
+
+        RateDialogPolicy.RateState shown = policy.onShown(outcome.getState());
+        assertEquals(0, shown.getClicks());
+        assertFalse(policy.onClick(shown, NOW, VERSION).isShow());
+    }
+
+    @Test
+    void laterWaitsForTheCooldown() {
+        RateDialogPolicy policy = new RateDialogPolicy(RateDialogPolicy.DEFAULT_CLICKS_BEFORE_SHOW, HOUR, false);
+        RateDialogPolicy.RateState later = policy.onLater(policy.onShown(FRESH), NOW);
+        assertEquals(NOW + HOUR, later.getLaterUntilMillis());
+
+        RateDialogPolicy.RateState state = clickWithoutShow(policy, later, 20, NOW + HOUR - 1, VERSION);
+        assertEquals(20, state.getClicks());
+
+        assertTrue(policy.onClick(state, NOW + HOUR, VERSION).isShow());
+    }
+
+    @Test
+    void defaultLaterAsksAgainAfterTenClicks() {
+        RateDialogPolicy policy = new RateDialogPolicy();
+        RateDialogPolicy.RateState later = policy.onLater(policy.onShown(clickWithoutShow(policy, FRESH, 9, NOW, VERSION)), NOW);
+
+        RateDialogPolicy.RateState state = clickWithoutShow(policy, later, 9, NOW, VERSION);
+
+        assertTrue(policy.onClick(state, NOW, VERSION).isShow());
+    }
+
+    @Test
+    void doneBlocksFurtherDialogs() {
+        RateDialogPolicy policy = new RateDialogPolicy();
+        RateDialogPolicy.RateState asked = clickWithoutShow(policy, FRESH, 9, NOW, VERSION);
+
+        for (RateDialogPolicy.RateState done : new RateDialogPolicy.RateState[]{
+                policy.onRated(asked, VERSION), policy.onDeclined(asked, VERSION)}) {
+            assertTrue(done.isDone());
+            assertEquals(VERSION, done.getDoneVersion());
+            RateDialogPolicy.RateState state = done;
+            for (int i = 0; i < 100; i++) {
+                RateDialogPolicy.Outcome outcome = policy.onClick(state, NOW + i * HOUR, VERSION + 1);
+                assertFalse(outcome.isShow());
+                assertSame(state, outcome.getState());
+                state = outcome.getState();
+            }
+        }
+    }
+
+    @Test
+    void newVersionAsksAgainOnlyWhenEnabled() {
+        RateDialogPolicy policy = new RateDialogPolicy(RateDialogPolicy.DEFAULT_CLICKS_BEFORE_SHOW, 0, true);
+        RateDialogPolicy.RateState declined = policy.onDeclined(clickWithoutShow(policy, FRESH, 9, NOW, VERSION), VERSION);
+
+        // the version that was rated or declined stays quiet
+        RateDialogPolicy.Outcome sameVersion = policy.onClick(declined, NOW, VERSION);
+        assertFalse(sameVersion.isShow());
+        assertSame(declined, sameVersion.getState());
+
+        // an update starts counting from scratch
+        RateDialogPolicy.Outcome update = policy.onClick(declined, NOW, VERSION + 1);
+        assertFalse(update.isShow());
+        assertFalse(update.getState().isDone());
+        assertEquals(1, update.getState().getClicks());
+        RateDialogPolicy.RateState state = clickWithoutShow(policy, update.getState(), 8, NOW, VERSION + 1);
+        assertTrue(policy.onClick(state, NOW, VERSION + 1).isShow());
+    }
+
+    @Test
+    void newVersionStaysQuietByDefault() {
+        RateDialogPolicy policy = new RateDialogPolicy();
+        RateDialogPolicy.RateState rated = policy.onRated(FRESH, VERSION);
+
+        assertFalse(policy.onClick(rated, NOW, VERSION + 1).isShow());
+    }
+
+    /**
+     * Clicks {@code clicks} times, none of which may show the dialog.
+     */
+    private static RateDialogPolicy.RateState clickWithoutShow(RateDialogPolicy policy, RateDialogPolicy.RateState state,
+                                                               int clicks, long nowMillis, int appVersion) {
+        for (int i = 0; i < clicks; i++) {
+            RateDialogPolicy.Outcome outcome = policy.onClick(state, nowMillis, appVersion);
+            assertFalse(outcome.isShow(), "shown on click " + (i + 1));
+            state = outcome.getState();
+        }
+        return state;
+    }
+}
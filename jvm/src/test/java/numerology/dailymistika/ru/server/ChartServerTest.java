@@ -0,0 +1,202 @@
+package numerology.dailymistika.ru.server;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import numerology.dailymistika.ru.calc.ChartEvaluator;
+import numerology.dailymistika.ru.calc.ProfileSnapshot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChartServerTest {
+
+    private static final String IVAN = "lang=ru&first=%D0%98%D0%B2%D0%B0%D0%BD&father=%D0%98%D0%B2%D0%B0%D0%BD%D0%BE%D0%B2%D0%B8%D1%87"
+            + "&last=%D0%98%D0%B2%D0%B0%D0%BD%D0%BE%D0%B2&dob=24/9/1990";
+
+    private ChartServer server;
+    private Socket socket;
+    private InputStream in;
+    private OutputStream out;
+
+    @BeforeEach
+    void start() throws IOException {
+        server = new ChartServer(new ChartCache(100));
+        server.start(0);
+        socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+        socket.setSoTimeout(10_000);
+        in = new BufferedInputStream(socket.getInputStream());
+        out = socket.getOutputStream();
+    }
+
+    @AfterEach
+    void stop() throws IOException {
+        socket.close();
+        server.close();
+    }
+
+    @Test
+    void chartMatchesTheCalculator() throws IOException {
+        send("GET /chart?" + IVAN + " HTTP/1.1\r\nHost: localhost\r\n\r\n");
+        Response response = Response.read(in);
+
+        assertEquals(200, response.status);
+        int lifeNumber = ChartEvaluator.evaluate(ProfileSnapshot.of("ru", "Иван", "Иванович", "Иванов", "24/9/1990", "", ""))
+                .getLifeNumber();
+        assertTrue(response.body.startsWith("{\"lifeNumber\":" + lifeNumber + ","), response.body);
+    }
+
+    @Test
+    void pipelinedRequestsAreAnsweredInOrder() throws IOException {
+        send("GET /chart?" + IVAN + " HTTP/1.1\r\n\r\n"
+                + "GET /nowhere HTTP/1.1\r\n\r\n"
+                + "GET /chart?first=John&last=Doe&dob=15/4/1985 HTTP/1.1\r\n\r\n"
+                + "GET /metrics HTTP/1.1\r\n\r\n");
+
+        assertEquals(200, Response.read(in).status);
+        assertEquals(404, Response.read(in).status);
+        assertEquals(200, Response.read(in).status);
+        Response metrics = Response.read(in);
+        assertEquals(200, metrics.status);
+        assertTrue(metrics.body.contains("\"requests\":3,\"charts\":2,\"errors\":1"), metrics.body);
+    }
+
+    @Test
+    void batchAnswersOneLinePerProfile() throws IOException {
+        String body = "ru\tИван\tИванович\tИванов\t24/9/1990\n"
+                + "en\tJohn\t\tDoe\n"
+                + "en\tJohn\t\tDoe\t15/4/1985\r\n";
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        send("POST /charts HTTP/1.1\r\nContent-Length: " + bytes.length + "\r\n\r\n");
+        out.write(bytes);
+        Response response = Response.read(in);
+
+        assertEquals(200, response.status);
+        assertEquals("application/x-ndjson; charset=utf-8", response.headers.get("content-type"));
+        String[] lines = response.body.split("\n");
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].startsWith("{\"lifeNumber\":"), lines[0]);
+        assertEquals("{\"error\":\"IllegalArgumentException: expected 5 tab separated fields, got 4\"}", lines[1]);
+        assertTrue(lines[2].startsWith("{\"lifeNumber\":"), lines[2]);
+    }
+
+    @Test
+    void cachedChartsAreCounted() throws IOException {
+        send("GET /chart?" + IVAN + " HTTP/1.1\r\n\r\nGET /chart?" + IVAN + " HTTP/1.1\r\n\r\nGET /metrics HTTP/1.1\r\n\r\n");
+        Response.read(in);
+        Response.read(in);
+
+        String metrics = Response.read(in).body;
+        assertTrue(metrics.contains("\"cacheSize\":1,\"cacheHits\":1,\"cacheMisses\":1"), metrics);
+    }
+
+    @Test
+    void missingFieldsAreBadRequests() throws IOException {
+        send("GET /chart?first=John&last=Doe HTTP/1.1\r\n\r\n");
+        Response response = Response.read(in);
+
+        assertEquals(400, response.status);
+        assertEquals("{\"error\":\"IllegalArgumentException: first, last and dob are required\"}", response.body);
+    }
+
+    @Test
+    void malformedDateIsABadRequest() throws IOException {
+        send("GET /chart?first=John&last=Doe&dob=yesterday HTTP/1.1\r\n\r\n");
+
+        assertEquals(400, Response.read(in).status);
+    }
+
+    @Test
+    void malformedRequestLineClosesTheConnection() throws IOException {
+        send("HELLO\r\n\r\n");
+        Response response = Response.read(in);
+
+        assertEquals(400, response.status);
+        assertEquals("{\"error\":\"malformed request line\"}", response.body);
+        assertEquals(-1, in.read());
+    }
+
+    @Test
+    void unknownRouteIsNotFound() throws IOException {
+        send("POST /chart HTTP/1.1\r\nContent-Length: 0\r\n\r\n");
+        Response response = Response.read(in);
+
+        assertEquals(404, response.status);
+        assertEquals("{\"error\":\"no route POST /chart\"}", response.body);
+    }
+
+    @Test
+    void connectionCloseIsHonoured() throws IOException {
+        send("GET /metrics HTTP/1.1\r\nConnection: close\r\n\r\n");
+        Response response = Response.read(in);
+
+        assertEquals("close", response.headers.get("connection"));
+        assertEquals(-1, in.read());
+    }
+
+    @Test
+    void closeWithoutStart() throws IOException {
+        ChartServer unstarted = new ChartServer(new ChartCache(1));
+        unstarted.close();
+
+        assertThrows(IllegalStateException.class, unstarted::getPort);
+    }
+
+    private void send(String request) throws IOException {
+        out.write(request.getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    private static final class Response {
+        final int status;
+        final Map<String, String> headers;
+        final String body;
+
+        private Response(int status, Map<String, String> headers, String body) {
+            this.status = status;
+            this.headers = headers;
+            this.body = body;
+        }
+
+        static Response read(InputStream in) throws IOException {
+            String statusLine = readLine(in);
+            int status = Integer.parseInt(statusLine.split(" ")[1]);
+            Map<String, String> headers = new HashMap<>();
+            String line;
+            while (!(line = readLine(in)).isEmpty()) {
+                int colon = line.indexOf(':');
+                headers.put(line.substring(0, colon).toLowerCase(Locale.ROOT), line.substring(colon + 1).trim());
+            }
+            byte[] body = in.readNBytes(Integer.parseInt(headers.get("content-length")));
+            return new Response(status, headers, new String(body, StandardCharsets.UTF_8));
+        }
+
+        private static String readLine(InputStream in) throws IOException {
+            ByteArrayOutputStream line = new ByteArrayOutputStream();
+            int b;
+            while ((b = in.read()) != '\n') {
+                if (b == -1) {
+                    throw new IOException("connection closed inside a response");
+                }
+                if (b != '\r') {
+                    line.write(b);
+                }
+            }
+            return line.toString(StandardCharsets.ISO_8859_1.name());
+        }
+    }
+}